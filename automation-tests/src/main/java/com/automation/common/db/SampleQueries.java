@@ -1,13 +1,10 @@
 package com.automation.common.db;
 
 import com.taf.automation.db.MySqlInstance;
-import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,6 +18,8 @@ public class SampleQueries {
     private static final String DELETE = "delete from aTable where aID=:aID";
     private static final String INSERT = "insert into aTable (aValue, aValue2) values (:aValue, :aValue2)";
     private static final String BULK_INSERT = "insert into aTable (aValue, aValue2) values (?, ?)";
+    private static final String SELECT_ALL = "select aID, aValue from aTable";
+    private static final int BULK_INSERT_BATCH_SIZE = 1000;
 
     public static class SampleData {
         private Integer aID;
@@ -115,19 +114,16 @@ public class SampleQueries {
     }
 
     public void bulkInsertUsingPreparedStatement(List<SampleData> items) {
-        db.jdbcTemplate().batchUpdate(BULK_INSERT, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                SampleData data = items.get(i);
-                ps.setString(1, data.get_aValue());
-                ps.setString(2, data.get_aValue2());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return items.size();
-            }
+        db.batchUpdate(BULK_INSERT, items, BULK_INSERT_BATCH_SIZE, (ps, data) -> {
+            ps.setString(1, data.get_aValue());
+            ps.setString(2, data.get_aValue2());
         });
     }
 
+    public int countAllDataUsingStreaming(int maxRows) {
+        int[] count = new int[]{0};
+        db.query(SELECT_ALL, new MapSqlParameterSource(), Integer.MIN_VALUE, maxRows, getSampleDataRowMapper(), data -> count[0]++);
+        return count[0];
+    }
+
 }
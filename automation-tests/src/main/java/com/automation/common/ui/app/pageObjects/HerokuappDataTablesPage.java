@@ -63,6 +63,17 @@ public class HerokuappDataTablesPage extends GenericTable<HerokuappRow> {
         JsUtils.addAttribute(row, attribute, uniqueValue);
     }
 
+    @Override
+    protected boolean isBulkExtraction() {
+        return true;
+    }
+
+    @Override
+    protected boolean isAddAttributeInBulk(String attribute) {
+        // Consistent with addAttributeToRow as it is safe to add an ID
+        return true;
+    }
+
     /**
      * This method is just for testing purposes<BR>
      * <B>Note:  </B> Any time this method is called the rows must be reset as it changes the element ids
@@ -0,0 +1,52 @@
+package com.taf.automation.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the framework benchmarks with the GC profiler (allocation rate) &amp; writes the results as JSON such that
+ * the baseline can be compared between versions.<BR>
+ * <B>Usage: </B> java -jar benchmarks.jar [JMH options]<BR>
+ * <B>Notes: </B>
+ * <OL>
+ * <LI>Any of the standard JMH options can be used, for example a regular expression to only run some of the
+ * benchmarks</LI>
+ * <LI>If no profiler is specified, then the GC profiler is used</LI>
+ * <LI>If no result file is specified, then the results are written to jmh-baseline.json</LI>
+ * </OL>
+ */
+public class BenchmarkRunner {
+    private static final String BASELINE = "jmh-baseline.json";
+
+    private BenchmarkRunner() {
+        // Prevent initialization of class as all public methods should be static
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cmd);
+
+        if (cmd.getIncludes().isEmpty()) {
+            options.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+        }
+
+        if (cmd.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+
+        if (!cmd.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+
+        if (!cmd.getResult().hasValue()) {
+            options.result(BASELINE);
+        }
+
+        new Runner(options.build()).run();
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.taf.automation.benchmarks;
+
+import com.taf.automation.ui.support.conditional.Conditional;
+import com.taf.automation.ui.support.conditional.Criteria;
+import com.taf.automation.ui.support.conditional.CriteriaMaker;
+import com.taf.automation.ui.support.conditional.CriteriaType;
+import com.taf.automation.ui.support.conditional.MatchFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the Match class dispatch &amp; the Conditional evaluation loop.<BR>
+ * <B>Note: </B> Lambda expressions are used as the criteria such that no browser is necessary.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConditionalBenchmark {
+    @Param({"1", "10"})
+    private int criteriaCount;
+
+    private MatchFactory matchFactory;
+    private List<Criteria> dispatch;
+    private List<Criteria> lastMatches;
+    private Conditional conditional;
+
+    @Setup
+    public void setup() {
+        matchFactory = new MatchFactory();
+
+        dispatch = new ArrayList<>();
+        CriteriaType[] types = CriteriaType.values();
+        for (int i = 0; i < criteriaCount; i++) {
+            Criteria criteria = new Criteria();
+            criteria.setCriteriaType(types[i % types.length]);
+            dispatch.add(criteria);
+        }
+
+        // Only the last criteria matches such that all the criteria are evaluated
+        lastMatches = new ArrayList<>();
+        for (int i = 0; i < criteriaCount - 1; i++) {
+            lastMatches.add(CriteriaMaker.forLambdaExpression(() -> false));
+        }
+
+        lastMatches.add(CriteriaMaker.forLambdaExpression(() -> true));
+        conditional = new Conditional(null, 1, 0);
+    }
+
+    @Benchmark
+    public void getMatch(Blackhole blackhole) {
+        for (Criteria criteria : dispatch) {
+            blackhole.consume(matchFactory.getMatch(criteria));
+        }
+    }
+
+    @Benchmark
+    public int waitForMatch() {
+        return conditional.waitForMatch(lastMatches);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.taf.automation.benchmarks;
+
+import com.taf.automation.ui.support.util.CryptoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the encryption &amp; decryption including the cost of creating the CryptoUtils object
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CryptoBenchmark {
+    private static final String PLAIN = "P@ssw0rd-for-the-test-environment";
+
+    private CryptoUtils crypto;
+    private String encrypted;
+
+    @Setup
+    public void setup() {
+        crypto = new CryptoUtils();
+        encrypted = crypto.encrypt(PLAIN);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return crypto.encrypt(PLAIN);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return crypto.decrypt(encrypted);
+    }
+
+    @Benchmark
+    public String newInstanceDecrypt() {
+        return new CryptoUtils().decrypt(encrypted);
+    }
+
+}
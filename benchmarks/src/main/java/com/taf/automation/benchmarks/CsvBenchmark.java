@@ -0,0 +1,83 @@
+package com.taf.automation.benchmarks;
+
+import com.taf.automation.ui.support.csv.CsvUtils;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of reading a CSV file &amp; creating the test data for the Data Provider.<BR>
+ * <B>Note: </B> The CSV file is generated in the temp directory &amp; half the records are set to run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvBenchmark {
+    private static final String RUN = "run";
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private File csv;
+
+    @Setup
+    public void setup() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append(RUN).append(",id,firstName,lastName,email,amount,alias-account\n");
+        for (int i = 0; i < rows; i++) {
+            sb.append(i % 2 == 0)
+                    .append(",").append(i)
+                    .append(",First").append(i)
+                    .append(",Last").append(i)
+                    .append(",user").append(i).append("@example.com")
+                    .append(",").append(i * 100).append(".25")
+                    .append(",account-").append(i)
+                    .append("\n");
+        }
+
+        csv = File.createTempFile("benchmark", ".csv");
+        FileUtils.writeStringToFile(csv, sb.toString(), StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        FileUtils.deleteQuietly(csv);
+    }
+
+    @Benchmark
+    public List<CSVRecord> read() {
+        List<CSVRecord> records = new ArrayList<>();
+        Map<String, Integer> headers = new HashMap<>();
+        CsvUtils.read(csv.getAbsolutePath(), records, headers);
+        return records;
+    }
+
+    @Benchmark
+    public List<Object[]> dataProvider() {
+        return CsvUtils.dataProvider(csv.getAbsolutePath(), RUN);
+    }
+
+}
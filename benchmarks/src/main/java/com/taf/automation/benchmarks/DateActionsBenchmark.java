@@ -0,0 +1,61 @@
+package com.taf.automation.benchmarks;
+
+import com.taf.automation.ui.support.DateActions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the business day calculations which require the holidays to be determined
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateActionsBenchmark {
+    @Param({"1", "30"})
+    private int days;
+
+    private DateActions dateActions;
+    private Date date;
+
+    @Setup
+    public void setup() {
+        dateActions = new DateActions();
+
+        // Just before Christmas such that holidays need to be skipped
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(2020, Calendar.DECEMBER, 23);
+        date = calendar.getTime();
+    }
+
+    @Benchmark
+    public Date nextBusinessDay() {
+        return dateActions.nextBusinessDay(date, days);
+    }
+
+    @Benchmark
+    public Date previousBusinessDay() {
+        return dateActions.previousBusinessDay(date, days);
+    }
+
+    @Benchmark
+    public Date onlyBusinessDaysAfter() {
+        return dateActions.onlyBusinessDaysAfter(date, days);
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.taf.automation.benchmarks;
+
+import com.taf.automation.expressions.USAddress;
+import com.taf.automation.ui.support.util.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the XStream based deep copy
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeepCopyBenchmark {
+    @Param({"1", "100"})
+    private int size;
+
+    private List<USAddress> addresses;
+
+    @Setup
+    public void setup() {
+        addresses = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            USAddress address = new USAddress();
+            address.setStreet(i + " Main Street");
+            address.setCity("Springfield");
+            address.setState("IL");
+            address.setZipCode("62701");
+            address.setCountry("USA");
+            address.setPhoneNumber("(217) 555-" + String.format("%04d", i));
+            addresses.add(address);
+        }
+    }
+
+    @Benchmark
+    public List<USAddress> deepCopy() {
+        return Utils.deepCopy(addresses);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.taf.automation.benchmarks;
+
+import com.taf.automation.ui.support.generators.RandomRealUSAddressGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of generating a real US address with &amp; without conditions
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GeneratorBenchmark {
+    private static final String PATTERN = "{#}, {C}, {S} {Z}";
+
+    private RandomRealUSAddressGenerator generator;
+
+    @Setup
+    public void setup() {
+        generator = new RandomRealUSAddressGenerator();
+
+        // Load the addresses such that only the generation is measured
+        generator.generate(PATTERN, "");
+    }
+
+    @Benchmark
+    public String generate() {
+        return generator.generate(PATTERN, "");
+    }
+
+    @Benchmark
+    public String generateWithConditions() {
+        return generator.generate(PATTERN, "STATE*=NY,CA,TX&&ZIP5");
+    }
+
+    @Benchmark
+    public String generateNoShuffle() {
+        return generator.generate(PATTERN, "NO_SHUFFLE;STATE!=NY");
+    }
+
+}
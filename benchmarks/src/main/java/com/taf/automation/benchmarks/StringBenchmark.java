@@ -0,0 +1,60 @@
+package com.taf.automation.benchmarks;
+
+import com.taf.automation.ui.support.StringCompare;
+import com.taf.automation.ui.support.StringMod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the StringMod chains &amp; the Levenshtein distance used by StringCompare
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringBenchmark {
+    private String phone = "Phone:  +1 (555) 123-4567 ext. 89";
+    private String text = "The quick brown fox jumps over the lazy dog";
+    private String similar = "The quack brown fax jumped over a lazy dog";
+
+    @Benchmark
+    public String stringModChain() {
+        return new StringMod(phone)
+                .removeStartsWith("Phone:")
+                .removeLast("ext. 89")
+                .removeNonDigits()
+                .replaceFirst("1", "")
+                .insert(3, "-")
+                .insert(7, "-")
+                .prepend("(")
+                .append(")")
+                .toUpperCase()
+                .get();
+    }
+
+    @Benchmark
+    public String stringModRegEx() {
+        return new StringMod(text)
+                .replaceAll("\\s+", "_")
+                .removeAll("[aeiou]")
+                .replaceFirstRegEx("^Th", "th")
+                .get();
+    }
+
+    @Benchmark
+    public int levenshtein() {
+        return StringCompare.computeLevenshteinDistance(text, similar);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.taf.automation.benchmarks;
+
+import com.taf.automation.ui.support.VTD_XML;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of parsing XML &amp; the XPath evaluation using VTD-XML
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class XmlBenchmark {
+    @Param({"10", "1000"})
+    private int items;
+
+    private byte[] xml;
+    private VTD_XML parsed;
+    private String lastItemXpath;
+
+    @Setup
+    public void setup() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+        sb.append("<response><status>OK</status><items>");
+        for (int i = 0; i < items; i++) {
+            sb.append("<item id=\"").append(i).append("\">")
+                    .append("<name>Item ").append(i).append("</name>")
+                    .append("<price>").append(i).append(".99</price>")
+                    .append("</item>");
+        }
+
+        sb.append("</items></response>");
+        xml = sb.toString().getBytes(StandardCharsets.UTF_8);
+        parsed = new VTD_XML(xml);
+        lastItemXpath = "/response/items/item[@id='" + (items - 1) + "']/name";
+    }
+
+    @Benchmark
+    public String parseAndGetNodeValue() throws Exception {
+        return new VTD_XML(xml).getNodeValue("/response/status", "");
+    }
+
+    @Benchmark
+    public String getNodeValue() {
+        return parsed.getNodeValue(lastItemXpath, "");
+    }
+
+}
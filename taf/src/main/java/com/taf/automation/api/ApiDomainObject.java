@@ -12,10 +12,12 @@ import com.taf.automation.ui.support.util.Helper;
 import com.taf.automation.ui.support.Lookup;
 import com.taf.automation.ui.support.TestProperties;
 import com.taf.automation.ui.support.util.Utils;
+import com.taf.automation.ui.support.util.XStreamRegistry;
 import com.taf.automation.ui.support.converters.Credentials;
 import com.taf.automation.ui.support.converters.CreditCard;
 import com.taf.automation.ui.support.converters.DynamicCredentials;
 import com.taf.automation.ui.support.csv.CsvTestData;
+import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.annotations.XStreamOmitField;
 import datainstiller.data.Data;
 import datainstiller.data.DataAliases;
@@ -59,6 +61,17 @@ public class ApiDomainObject extends DataPersistenceV2 {
         jexlContext.set("lookup", Lookup.getInstance());
     }
 
+    /**
+     * Get the XStream (configured the same as getXstream) that is shared by all threads<BR>
+     * <B>Note: </B> This is for serializing objects (such as for comparisons) and the returned XStream must not
+     * be modified.<BR>
+     *
+     * @return XStream
+     */
+    public static XStream getSharedXstream() {
+        return XStreamRegistry.getInstance().get(ApiDomainObject.class, XStreamRegistry.DEFAULT, () -> new ApiDomainObject().getXstream());
+    }
+
     @Override
     public String toXML() {
         createGlobalAliasses();
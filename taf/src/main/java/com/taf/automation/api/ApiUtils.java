@@ -187,8 +187,8 @@ public class ApiUtils {
         assertThat(actual, notNullValue());
         assertThat(expected, notNullValue());
 
-        String[] actualLines = new ApiDomainObject().getXstream().toXML(actual).split("\n");
-        String[] expectedLines = new ApiDomainObject().getXstream().toXML(expected).split("\n");
+        String[] actualLines = ApiDomainObject.getSharedXstream().toXML(actual).split("\n");
+        String[] expectedLines = ApiDomainObject.getSharedXstream().toXML(expected).split("\n");
         for (int i = 0; i < expectedLines.length; i++) {
             assertThat(actualLines[i], equalTo(expectedLines[i]));
         }
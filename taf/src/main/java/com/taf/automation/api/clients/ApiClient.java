@@ -5,7 +5,6 @@ import com.taf.automation.api.ApiUtils;
 import com.taf.automation.api.JsonUtils;
 import com.taf.automation.api.ParametersType;
 import com.taf.automation.api.ReturnType;
-import com.taf.automation.api.TrustAllStrategy;
 import com.taf.automation.api.rest.GenericHttpInterface;
 import com.taf.automation.api.rest.GenericHttpResponse;
 import com.taf.automation.ui.support.util.CryptoUtils;
@@ -35,13 +34,12 @@ import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
-import org.apache.http.conn.ssl.TrustStrategy;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.auth.BasicScheme;
 import org.apache.http.impl.client.BasicAuthCache;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.ssl.SSLContexts;
 
@@ -156,32 +154,37 @@ public class ApiClient implements GenericHttpInterface {
             proxyHost = HttpHost.create(props.getCiHttpProxy());
         }
 
-        SSLContext sslContext;
-
-        try {
-            TrustStrategy trustStrategy;
-            if (TestProperties.getInstance().getEnvironment().isProdEnv()) {
-                trustStrategy = new TrustSelfSignedStrategy();
-            } else {
-                trustStrategy = new TrustAllStrategy();
-            }
-
-            sslContext = SSLContexts.custom().loadTrustMaterial(null, trustStrategy).build();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        HttpConnectionPool.Trust trust;
+        if (props.getEnvironment().isProdEnv()) {
+            trust = HttpConnectionPool.Trust.SELF_SIGNED;
+        } else {
+            trust = HttpConnectionPool.Trust.ALL;
         }
 
-        SSLConnectionSocketFactory sslConnectionFactory = new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
-
         RequestConfig config = RequestConfig.custom()
                 .setSocketTimeout(socketTimeout)
                 .setConnectTimeout(connectionTimeout)
                 .setProxy(proxyHost)
                 .build();
 
-        return HttpClients.custom()
+        HttpClientBuilder builder;
+        if (props.isApiConnectionPool()) {
+            builder = HttpConnectionPool.getInstance().newClientBuilder(trust);
+        } else {
+            SSLContext sslContext;
+
+            try {
+                sslContext = SSLContexts.custom().loadTrustMaterial(null, trust.getStrategy()).build();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+
+            SSLConnectionSocketFactory sslConnectionFactory = new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
+            builder = HttpClients.custom().setSSLSocketFactory(sslConnectionFactory);
+        }
+
+        return builder
                 .setDefaultRequestConfig(config)
-                .setSSLSocketFactory(sslConnectionFactory)
                 .useSystemProperties()
                 .build();
     }
@@ -0,0 +1,203 @@
+package com.taf.automation.api.clients;
+
+import com.taf.automation.api.TrustAllStrategy;
+import com.taf.automation.ui.support.TestProperties;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.conn.ssl.TrustStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.ssl.SSLContexts;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process wide registry of pooled connection managers that are shared by the HTTP clients such that
+ * the TLS handshake &amp; TCP connection are reused between requests &amp; clients.<BR>
+ * There is a connection manager for each trust configuration.  Idle &amp; expired connections are closed
+ * by a background thread.<BR>
+ * <B>Note: </B>Clients using a shared connection manager must be built with connection manager shared set to true
+ * such that closing the client does not shut down the pool.<BR>
+ */
+public class HttpConnectionPool {
+    private final Map<Trust, Pool> pools;
+    private final ScheduledExecutorService evictor;
+
+    /**
+     * Trust configuration of the SSL connections
+     */
+    public enum Trust {
+        ALL(new TrustAllStrategy()),
+        SELF_SIGNED(new TrustSelfSignedStrategy());
+
+        private final TrustStrategy strategy;
+
+        Trust(TrustStrategy strategy) {
+            this.strategy = strategy;
+        }
+
+        public TrustStrategy getStrategy() {
+            return strategy;
+        }
+    }
+
+    /**
+     * Connection manager &amp; the counters to determine how often connections are reused
+     */
+    private static class Pool {
+        private final PoolingHttpClientConnectionManager connectionManager;
+        private final AtomicLong created = new AtomicLong();
+        private final AtomicLong requests = new AtomicLong();
+
+        private Pool(Trust trust) {
+            SSLContext sslContext;
+
+            try {
+                sslContext = SSLContexts.custom().loadTrustMaterial(null, trust.getStrategy()).build();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+
+            Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+                    .register("http", new PlainConnectionSocketFactory() {
+                        @Override
+                        public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress, InetSocketAddress localAddress, HttpContext context) throws IOException {
+                            created.incrementAndGet();
+                            return super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+                        }
+                    })
+                    .register("https", new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE) {
+                        @Override
+                        public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress, InetSocketAddress localAddress, HttpContext context) throws IOException {
+                            created.incrementAndGet();
+                            return super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+                        }
+                    })
+                    .build();
+
+            TestProperties props = TestProperties.getInstance();
+            connectionManager = new PoolingHttpClientConnectionManager(registry);
+            connectionManager.setMaxTotal(props.getApiPoolMaxTotal());
+            connectionManager.setDefaultMaxPerRoute(props.getApiPoolMaxPerRoute());
+            connectionManager.setValidateAfterInactivity(props.getApiPoolValidateAfterInactivity());
+        }
+    }
+
+    private HttpConnectionPool() {
+        pools = new ConcurrentHashMap<>();
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long idleTimeout = TestProperties.getInstance().getApiPoolIdleTimeout();
+        long period = Math.max(idleTimeout / 2, 1000L);
+        evictor.scheduleWithFixedDelay(() -> closeIdleConnections(idleTimeout), period, period, TimeUnit.MILLISECONDS);
+    }
+
+    private static class LazyHolder {
+        private static final HttpConnectionPool INSTANCE = new HttpConnectionPool();
+    }
+
+    public static HttpConnectionPool getInstance() {
+        return HttpConnectionPool.LazyHolder.INSTANCE;
+    }
+
+    private Pool getPool(Trust trust) {
+        return pools.computeIfAbsent(trust, Pool::new);
+    }
+
+    private void closeIdleConnections(long idleTimeout) {
+        for (Pool pool : pools.values()) {
+            pool.connectionManager.closeExpiredConnections();
+            pool.connectionManager.closeIdleConnections(idleTimeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Get a client builder that uses the shared connection manager for the trust configuration
+     *
+     * @param trust - Trust configuration of the SSL connections
+     * @return HttpClientBuilder
+     */
+    public HttpClientBuilder newClientBuilder(Trust trust) {
+        Pool pool = getPool(trust);
+        return HttpClients.custom()
+                .setConnectionManager(pool.connectionManager)
+                .setConnectionManagerShared(true)
+                .addInterceptorFirst((HttpRequestInterceptor) (request, context) -> pool.requests.incrementAndGet());
+    }
+
+    /**
+     * Get the shared connection manager for the trust configuration
+     *
+     * @param trust - Trust configuration of the SSL connections
+     * @return PoolingHttpClientConnectionManager
+     */
+    public PoolingHttpClientConnectionManager getConnectionManager(Trust trust) {
+        return getPool(trust).connectionManager;
+    }
+
+    /**
+     * Get the number of connections that have been opened for the trust configuration
+     *
+     * @param trust - Trust configuration of the SSL connections
+     * @return number of connections opened
+     */
+    public long getCreatedConnections(Trust trust) {
+        return getPool(trust).created.get();
+    }
+
+    /**
+     * Get the number of requests that reused an already opened connection for the trust configuration
+     *
+     * @param trust - Trust configuration of the SSL connections
+     * @return number of requests that did not need to open a connection
+     */
+    public long getReusedConnections(Trust trust) {
+        Pool pool = getPool(trust);
+        return Math.max(pool.requests.get() - pool.created.get(), 0);
+    }
+
+    /**
+     * Get the current statistics (leased, available, pending &amp; max) for the trust configuration
+     *
+     * @param trust - Trust configuration of the SSL connections
+     * @return PoolStats
+     */
+    public PoolStats getStats(Trust trust) {
+        return getPool(trust).connectionManager.getTotalStats();
+    }
+
+    /**
+     * Close all the pooled connections.  Pools are re-created as necessary for clients built afterwards.
+     */
+    public void shutdown() {
+        for (Pool pool : pools.values()) {
+            pool.connectionManager.shutdown();
+        }
+
+        pools.clear();
+    }
+
+}
@@ -9,6 +9,7 @@ import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.ssl.SSLContexts;
 
@@ -54,25 +55,30 @@ public class HttpRequester {
             proxyHost = HttpHost.create(props.getCiHttpProxy());
         }
 
-        SSLContext sslContext;
-
-        try {
-            sslContext = SSLContexts.custom().loadTrustMaterial(null, new TrustSelfSignedStrategy()).build();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-
-        SSLConnectionSocketFactory sslConnectionFactory = new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
-
         RequestConfig config = RequestConfig.custom()
                 .setSocketTimeout(props.getApiTimeout())
                 .setConnectTimeout(props.getApiTimeout())
                 .setProxy(proxyHost)
                 .build();
 
-        return HttpClients.custom()
+        HttpClientBuilder builder;
+        if (props.isApiConnectionPool()) {
+            builder = HttpConnectionPool.getInstance().newClientBuilder(HttpConnectionPool.Trust.SELF_SIGNED);
+        } else {
+            SSLContext sslContext;
+
+            try {
+                sslContext = SSLContexts.custom().loadTrustMaterial(null, new TrustSelfSignedStrategy()).build();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+
+            SSLConnectionSocketFactory sslConnectionFactory = new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
+            builder = HttpClients.custom().setSSLSocketFactory(sslConnectionFactory);
+        }
+
+        return builder
                 .setDefaultRequestConfig(config)
-                .setSSLSocketFactory(sslConnectionFactory)
                 .useSystemProperties()
                 .build();
     }
@@ -2,33 +2,113 @@ package com.taf.automation.db;
 
 import com.taf.automation.api.network.SSHSession;
 import com.taf.automation.ui.support.TestProperties;
+import com.taf.automation.ui.support.util.CryptoUtils;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.lang3.StringUtils;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
 public abstract class DBInstance {
     protected static final Logger LOG = LoggerFactory.getLogger(DBInstance.class);
+    private static final Set<DBInstance> INSTANCES = Collections.newSetFromMap(new ConcurrentHashMap<>());
     protected SSHSession sshSession;
-    protected JdbcTemplate jdbcTemplate;
+    protected volatile JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final Map<String, NamedParameterJdbcTemplate> streamingTemplates = new ConcurrentHashMap<>();
+    private JdbcTemplate streamingBase;
+    private final Map<String, HikariDataSource> pools = new ConcurrentHashMap<>();
+    private final Map<String, PoolMetrics> metrics = new ConcurrentHashMap<>();
+    private volatile PoolMetrics poolMetrics;
     public static final DateTimeFormatter DB_DATE_FORMATTER = DateTimeFormat.forPattern("yyyy-MM-dd HH:mm:ss");
 
+    /**
+     * Close the connection pools &amp; SSH tunnels of all the DB instances that are open such as when the
+     * suite finishes
+     */
+    public static void closeAll() {
+        for (DBInstance instance : INSTANCES) {
+            instance.close();
+        }
+    }
+
+    /**
+     * Register the instance such that its connection pools &amp; SSH tunnel are closed by closeAll.  The instance is
+     * only registered while it has open resources.
+     */
+    protected void register() {
+        INSTANCES.add(this);
+    }
+
     public JdbcTemplate jdbcTemplate() {
         return jdbcTemplate;
     }
 
+    /**
+     * Get the NamedParameterJdbcTemplate which is re-used (to keep the parsed SQL cache) until the
+     * JdbcTemplate is changed
+     *
+     * @return NamedParameterJdbcTemplate
+     */
     public NamedParameterJdbcTemplate namedParameterJdbcTemplate() {
-        return new NamedParameterJdbcTemplate(jdbcTemplate);
+        NamedParameterJdbcTemplate template = namedParameterJdbcTemplate;
+        if (template == null || template.getJdbcOperations() != jdbcTemplate) {
+            template = new NamedParameterJdbcTemplate(jdbcTemplate);
+            namedParameterJdbcTemplate = template;
+        }
+
+        return template;
     }
 
     public void close() {
-        sshSession.close();
+        closePools();
+        if (sshSession != null) {
+            sshSession.close();
+            sshSession = null;
+        }
+
+        INSTANCES.remove(this);
+    }
+
+    private void closePools() {
+        for (Map.Entry<String, HikariDataSource> item : pools.entrySet()) {
+            LOG.info("Closing DB connection pool:  " + metrics.get(item.getKey()));
+            item.getValue().close();
+        }
+
+        pools.clear();
+        metrics.clear();
+    }
+
+    /**
+     * Get the metrics of the connection pool
+     *
+     * @return null if the connection pool is not used else PoolMetrics
+     */
+    public PoolMetrics getPoolMetrics() {
+        return poolMetrics;
     }
 
     public <T> T queryForObject(String query, SqlParameterSource sqlParameterSource, Class<T> clazz) {
@@ -62,6 +142,119 @@ public abstract class DBInstance {
         return namedParameterJdbcTemplate().update(query, sqlParameterSource);
     }
 
+    /**
+     * Query given SQL and process each row as it is read such that the results are never all in memory.<BR>
+     * <B>Note: </B> MySQL only streams the results if the fetch size is Integer.MIN_VALUE.  A negative fetch size
+     * is ignored for the other databases.<BR>
+     *
+     * @param query              - SQL Query to be executed
+     * @param sqlParameterSource - Container of arguments to bind to the query
+     * @param fetchSize          - Number of rows to fetch from the database at a time (0 to use driver default)
+     * @param maxRows            - Maximum number of rows to process (0 for no limit)
+     * @param rowCallbackHandler - Callback to process each row
+     */
+    public void query(
+            String query,
+            SqlParameterSource sqlParameterSource,
+            int fetchSize,
+            int maxRows,
+            RowCallbackHandler rowCallbackHandler
+    ) {
+        getStreamingTemplate(fetchSize, maxRows).query(query, sqlParameterSource, rowCallbackHandler);
+    }
+
+    /**
+     * Get the template for streaming queries with the settings which is re-used (to keep the parsed SQL cache) until
+     * the JdbcTemplate is changed
+     *
+     * @param fetchSize - Number of rows to fetch from the database at a time (0 to use driver default)
+     * @param maxRows   - Maximum number of rows to process (0 for no limit)
+     * @return NamedParameterJdbcTemplate
+     */
+    private synchronized NamedParameterJdbcTemplate getStreamingTemplate(int fetchSize, int maxRows) {
+        JdbcTemplate base = jdbcTemplate;
+        if (streamingBase != base) {
+            streamingTemplates.clear();
+            streamingBase = base;
+        }
+
+        int applied = (fetchSize < 0 && !isNegativeFetchSizeSupported()) ? 0 : fetchSize;
+        return streamingTemplates.computeIfAbsent(applied + ":" + maxRows, key -> {
+            JdbcTemplate streaming = new JdbcTemplate(base.getDataSource()) {
+                @Override
+                protected void applyStatementSettings(Statement stmt) throws SQLException {
+                    super.applyStatementSettings(stmt);
+
+                    // JdbcTemplate only applies a positive fetch size which prevents streaming for MySQL
+                    if (applied != 0) {
+                        stmt.setFetchSize(applied);
+                    }
+                }
+            };
+            streaming.setQueryTimeout(base.getQueryTimeout());
+            streaming.setMaxRows(maxRows);
+            return new NamedParameterJdbcTemplate(streaming);
+        });
+    }
+
+    /**
+     * @return true if the driver supports a negative fetch size (to stream the results) else false
+     */
+    protected boolean isNegativeFetchSizeSupported() {
+        return false;
+    }
+
+    /**
+     * Query given SQL and map each row to an object that is passed to the consumer as it is read such that the
+     * results are never all in memory.<BR>
+     * <B>Note: </B> MySQL only streams the results if the fetch size is Integer.MIN_VALUE.  A negative fetch size
+     * is ignored for the other databases.<BR>
+     *
+     * @param query              - SQL Query to be executed
+     * @param sqlParameterSource - Container of arguments to bind to the query
+     * @param fetchSize          - Number of rows to fetch from the database at a time (0 to use driver default)
+     * @param maxRows            - Maximum number of rows to process (0 for no limit)
+     * @param rowMapper          - Row Mapper to convert each row
+     * @param consumer           - Consumer of each converted row
+     * @param <T>                - Type of the converted row
+     */
+    public <T> void query(
+            String query,
+            SqlParameterSource sqlParameterSource,
+            int fetchSize,
+            int maxRows,
+            RowMapper<T> rowMapper,
+            Consumer<T> consumer
+    ) {
+        int[] rowNum = new int[]{0};
+        query(query, sqlParameterSource, fetchSize, maxRows, (RowCallbackHandler) rs -> consumer.accept(rowMapper.mapRow(rs, rowNum[0]++)));
+    }
+
+    /**
+     * Execute the SQL once for each item using JDBC batches
+     *
+     * @param query     - SQL with ? placeholders to be executed
+     * @param items     - Items to be used for the parameters
+     * @param batchSize - Number of items to send in each batch
+     * @param setter    - Sets the parameters of the prepared statement for an item
+     * @param <T>       - Type of the items
+     * @return an array of the number of rows affected for each item in each batch
+     */
+    public <T> int[][] batchUpdate(String query, Collection<T> items, int batchSize, ParameterizedPreparedStatementSetter<T> setter) {
+        return jdbcTemplate.batchUpdate(query, items, batchSize, setter);
+    }
+
+    /**
+     * Execute the SQL once for each parameter source using a single JDBC batch
+     *
+     * @param query     - SQL with named parameters to be executed
+     * @param batchArgs - Container of arguments to bind for each execution
+     * @return an array of the number of rows affected for each execution
+     */
+    public int[] batchUpdate(String query, SqlParameterSource[] batchArgs) {
+        return namedParameterJdbcTemplate().batchUpdate(query, batchArgs);
+    }
+
     /**
      * Reset the DB connection to use the default timeout values
      */
@@ -73,6 +266,9 @@ public abstract class DBInstance {
     /**
      * Set the DB connection to use these timeout values.<BR>
      * <B>Notes: </B> This only should be done for long running queries and the settings reset after<BR>
+     * The new JdbcTemplate is created before it replaces the current one such that queries running on other threads
+     * are not affected.  If the DB pool is enabled, then a pool is kept for each set of connection settings (until
+     * the suite finishes) such that switching back to previous settings re-uses the existing pool.<BR>
      *
      * @param connectionTimeout - Connection Timeout in milliseconds
      * @param socketTimeout     - Socket Timeout in milliseconds
@@ -99,6 +295,77 @@ public abstract class DBInstance {
         return size;
     }
 
+    /**
+     * Create the data source using the user name &amp; password from the properties.<BR>
+     * <B>Note: </B> If the DB pool is enabled, then a connection pool is used else a new connection
+     * is opened for each query.  The connection pool for the same settings is re-used.
+     *
+     * @param url               - JDBC URL
+     * @param driverClassName   - JDBC Driver Class Name
+     * @param connectionProps   - Connection properties for the driver
+     * @param connectionTimeout - Connection Timeout in milliseconds (also used as the maximum time to wait for a
+     *                          connection from the pool)
+     * @return DataSource
+     */
+    protected DataSource createDataSource(String url, String driverClassName, Properties connectionProps, int connectionTimeout) {
+        TestProperties props = TestProperties.getInstance();
+        if (!props.isDbPool()) {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(url, connectionProps);
+            dataSource.setDriverClassName(driverClassName);
+            dataSource.setConnectionProperties(connectionProps);
+            dataSource.setUsername(props.getDbUserName());
+            dataSource.setPassword(new CryptoUtils().decrypt(props.getDbPassword()));
+            return dataSource;
+        }
+
+        String key = url + "|" + driverClassName + "|" + connectionProps + "|" + connectionTimeout;
+        HikariDataSource pool = pools.computeIfAbsent(key, k ->
+                createPool(k, url, driverClassName, connectionProps, connectionTimeout)
+        );
+        poolMetrics = metrics.get(key);
+        return pool;
+    }
+
+    private HikariDataSource createPool(
+            String key,
+            String url,
+            String driverClassName,
+            Properties connectionProps,
+            int connectionTimeout
+    ) {
+        TestProperties props = TestProperties.getInstance();
+        PoolMetrics tracker = new PoolMetrics();
+        metrics.put(key, tracker);
+        register();
+
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(getClass().getSimpleName() + "-" + metrics.size());
+        config.setJdbcUrl(url);
+        config.setDriverClassName(driverClassName);
+        config.setDataSourceProperties(connectionProps);
+        config.setUsername(props.getDbUserName());
+        config.setPassword(new CryptoUtils().decrypt(props.getDbPassword()));
+        config.setMaximumPoolSize(Math.max(props.getDbPoolMaxSize(), 1));
+        config.setMinimumIdle(Math.min(Math.max(props.getDbPoolMinIdle(), 0), config.getMaximumPoolSize()));
+        config.setIdleTimeout(props.getDbPoolIdleTimeout());
+        config.setLeakDetectionThreshold(props.getDbPoolLeakDetectionThreshold());
+        config.setMetricsTrackerFactory(tracker);
+
+        // Do not fail when the pool is created as the database may not be used
+        config.setInitializationFailTimeout(-1);
+
+        // The pool does not allow less than 250 milliseconds
+        if (connectionTimeout >= 250) {
+            config.setConnectionTimeout(connectionTimeout);
+        }
+
+        if (StringUtils.isNotBlank(props.getDbPoolValidationQuery())) {
+            config.setConnectionTestQuery(props.getDbPoolValidationQuery());
+        }
+
+        return new HikariDataSource(config);
+    }
+
     /**
      * Create the DB connection with the specified timeout values
      *
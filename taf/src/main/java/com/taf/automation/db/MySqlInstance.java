@@ -1,13 +1,12 @@
 package com.taf.automation.db;
 
 import com.taf.automation.api.network.SSHSession;
-import com.taf.automation.ui.support.util.CryptoUtils;
 import com.taf.automation.ui.support.TestProperties;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.client.utils.URIBuilder;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
+import javax.sql.DataSource;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Properties;
@@ -35,7 +34,12 @@ public class MySqlInstance extends DBInstance {
         int dbPort = props.getDbPort();
         String dbHost = props.getDbHost();
         if (System.getenv("JENKINS_HOME") == null && props.getSshHost() != null) {
-            sshSession = new SSHSession(dbHost, dbPort);
+            // The SSH tunnel is re-used when the connection is updated as queries may be using it
+            if (sshSession == null) {
+                sshSession = new SSHSession(dbHost, dbPort);
+                register();
+            }
+
             dbHost = "localhost";
             dbPort = sshSession.getPort();
         } else {
@@ -66,13 +70,14 @@ public class MySqlInstance extends DBInstance {
         connectionProps.setProperty("connectTimeout", String.valueOf(connectionTimeout));
         connectionProps.setProperty("socketTimeout", String.valueOf(socketTimeout));
 
-        DriverManagerDataSource dataSource = new DriverManagerDataSource(uri.toString(), connectionProps);
-        dataSource.setDriverClassName("com.mysql.jdbc.Driver");
-        dataSource.setConnectionProperties(connectionProps);
-        dataSource.setUsername(props.getDbUserName());
-        dataSource.setPassword(new CryptoUtils().decrypt(props.getDbPassword()));
+        DataSource dataSource = createDataSource(uri.toString(), "com.mysql.jdbc.Driver", connectionProps, connectionTimeout);
         jdbcTemplate = new JdbcTemplate(dataSource);
         jdbcTemplate.setQueryTimeout(queryTimeout);
     }
 
+    @Override
+    protected boolean isNegativeFetchSizeSupported() {
+        return true;
+    }
+
 }
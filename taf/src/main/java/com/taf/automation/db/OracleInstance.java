@@ -1,10 +1,9 @@
 package com.taf.automation.db;
 
-import com.taf.automation.ui.support.util.CryptoUtils;
 import com.taf.automation.ui.support.TestProperties;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
+import javax.sql.DataSource;
 import java.util.Properties;
 
 /**
@@ -48,11 +47,7 @@ public class OracleInstance extends DBInstance {
         // connectionProps.setProperty(OracleConnection.CONNECTION_PROPERTY_THIN_NET_CONNECTION_TIMEOUT, String.valueOf(connectionTimeout));
         // connectionProps.setProperty(OracleConnection.CONNECTION_PROPERTY_THIN_READ_TIMEOUT, String.valueOf(socketTimeout));
 
-        DriverManagerDataSource dataSource = new DriverManagerDataSource(connectionString, connectionProps);
-        dataSource.setDriverClassName("oracle.jdbc.OracleDriver");
-        dataSource.setConnectionProperties(connectionProps);
-        dataSource.setUsername(props.getDbUserName());
-        dataSource.setPassword(new CryptoUtils().decrypt(props.getDbPassword()));
+        DataSource dataSource = createDataSource(connectionString, "oracle.jdbc.OracleDriver", connectionProps, connectionTimeout);
         jdbcTemplate = new JdbcTemplate(dataSource);
         jdbcTemplate.setQueryTimeout(queryTimeout);
     }
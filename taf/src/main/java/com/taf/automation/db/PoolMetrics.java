@@ -0,0 +1,127 @@
+package com.taf.automation.db;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks how long it takes to get a connection from the pool &amp; how long connections are used
+ */
+public class PoolMetrics implements MetricsTrackerFactory, IMetricsTracker {
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong acquiredNanos = new AtomicLong();
+    private final AtomicLong maxAcquiredNanos = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong usageMillis = new AtomicLong();
+    private PoolStats poolStats;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolStats = poolStats;
+        return this;
+    }
+
+    @Override
+    public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+        created.incrementAndGet();
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquired.incrementAndGet();
+        acquiredNanos.addAndGet(elapsedAcquiredNanos);
+        maxAcquiredNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        usageMillis.addAndGet(elapsedBorrowedMillis);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        timeouts.incrementAndGet();
+    }
+
+    /**
+     * @return number of times a connection was acquired from the pool
+     */
+    public long getAcquired() {
+        return acquired.get();
+    }
+
+    /**
+     * @return number of physical connections that were created
+     */
+    public long getCreated() {
+        return created.get();
+    }
+
+    /**
+     * @return number of times a connection could not be acquired before the timeout
+     */
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    /**
+     * @return 0 if no connections acquired else average time (in milliseconds) waiting for a connection
+     */
+    public double getAverageWaitTime() {
+        long count = acquired.get();
+        return (count == 0) ? 0 : acquiredNanos.get() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return maximum time (in milliseconds) waiting for a connection
+     */
+    public double getMaxWaitTime() {
+        return maxAcquiredNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return 0 if no connections acquired else average time (in milliseconds) a connection was used
+     */
+    public double getAverageUsageTime() {
+        long count = acquired.get();
+        return (count == 0) ? 0 : usageMillis.get() / (double) count;
+    }
+
+    /**
+     * @return number of connections in use or -1 if pool has not been created
+     */
+    public int getActiveConnections() {
+        return (poolStats == null) ? -1 : poolStats.getActiveConnections();
+    }
+
+    /**
+     * @return number of idle connections or -1 if pool has not been created
+     */
+    public int getIdleConnections() {
+        return (poolStats == null) ? -1 : poolStats.getIdleConnections();
+    }
+
+    /**
+     * @return number of threads waiting for a connection or -1 if pool has not been created
+     */
+    public int getPendingThreads() {
+        return (poolStats == null) ? -1 : poolStats.getPendingThreads();
+    }
+
+    @Override
+    public String toString() {
+        return "acquired=" + getAcquired()
+                + ", created=" + getCreated()
+                + ", timeouts=" + getTimeouts()
+                + ", averageWait=" + getAverageWaitTime() + "ms"
+                + ", maxWait=" + getMaxWaitTime() + "ms"
+                + ", active=" + getActiveConnections()
+                + ", idle=" + getIdleConnections()
+                + ", pending=" + getPendingThreads();
+    }
+
+}
@@ -1,11 +1,10 @@
 package com.taf.automation.db;
 
-import com.taf.automation.ui.support.util.CryptoUtils;
 import com.taf.automation.ui.support.TestProperties;
 import org.apache.commons.io.FileUtils;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
+import javax.sql.DataSource;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.net.URL;
@@ -61,11 +60,7 @@ public class SqlServerInstance extends DBInstance {
         connectionProps.setProperty("loginTimeout", String.valueOf(connectionTimeout));
         connectionProps.setProperty("socketTimeout", String.valueOf(socketTimeout));
 
-        DriverManagerDataSource dataSource = new DriverManagerDataSource(connectionString, connectionProps);
-        dataSource.setDriverClassName("com.microsoft.sqlserver.jdbc.SQLServerDriver");
-        dataSource.setConnectionProperties(connectionProps);
-        dataSource.setUsername(props.getDbUserName());
-        dataSource.setPassword(new CryptoUtils().decrypt(props.getDbPassword()));
+        DataSource dataSource = createDataSource(connectionString, "com.microsoft.sqlserver.jdbc.SQLServerDriver", connectionProps, connectionTimeout);
         jdbcTemplate = new JdbcTemplate(dataSource);
         jdbcTemplate.setQueryTimeout(queryTimeout);
     }
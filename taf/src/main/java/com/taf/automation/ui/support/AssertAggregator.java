@@ -173,8 +173,8 @@ public class AssertAggregator {
             results.add(assertThat(reason, actual, nullValue()));
             results.add(assertThat(reason, expected, nullValue()));
         } else {
-            String[] actualLines = new DomainObject().getXstream().toXML(actual).split("\n");
-            String[] expectedLines = new DomainObject().getXstream().toXML(expected).split("\n");
+            String[] actualLines = DomainObject.getSharedXstream().toXML(actual).split("\n");
+            String[] expectedLines = DomainObject.getSharedXstream().toXML(expected).split("\n");
             results.add(assertThat(reason + " - Number Of Lines", actualLines.length, equalTo(expectedLines.length)));
 
             int totalLines = Math.min(actualLines.length, expectedLines.length);
@@ -6,9 +6,11 @@ import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 import ui.auto.core.data.ComponentData;
 import ui.auto.core.pagecomponent.PageComponent;
@@ -16,27 +18,56 @@ import ui.auto.core.pagecomponent.PageObject;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * This is an enhanced version of the ComponentMethodInterceptor that handles the JavascriptException thrown by geckodriver
- * sometimes instead of the StaleElementReferenceException.
+ * sometimes instead of the StaleElementReferenceException.<BR>
+ * If the component handle cache is enabled, then the resolved element is re-used until the DOM generation changes
+ * which only requires a single JavaScript execution instead of finding the element &amp; checking if stale.<BR>
+ * <B>Note: </B> The DOM generation only changes when elements are added or removed.  As such, a locator that depends
+ * on attributes or text which change without elements being added or removed keeps the previously resolved element.
  */
 public class ComponentMethodInterceptorV2 implements MethodInterceptor {
+    private static final String DOM_GENERATION = Utils.readResource("JS/DomGeneration.js");
+    private static final Set<String> COMPONENT_DATA_METHODS = getComponentDataMethods();
+    private static final Field CORE_ELEMENT = FieldUtils.getField(PageComponent.class, "coreElement", true);
+    private static final Method INIT_COMPONENT = getInitComponentMethod();
     private ElementLocator locator;
+    private String generation;
 
     public ComponentMethodInterceptorV2(ElementLocator locator) {
         this.locator = locator;
     }
 
+    private static Set<String> getComponentDataMethods() {
+        Set<String> names = new HashSet<>();
+        for (Method dataMethod : ComponentData.class.getMethods()) {
+            names.add(dataMethod.getName());
+        }
+
+        return names;
+    }
+
+    @SuppressWarnings("squid:S00112")
+    private static Method getInitComponentMethod() {
+        try {
+            Method m = PageComponent.class.getDeclaredMethod("initComponent", WebElement.class);
+            m.setAccessible(true);
+            return m;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
     @Override
     public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
         String methodName = method.getName();
 
         // Skip methods belonging to ComponentData interface
-        for (Method dataMethod : ComponentData.class.getMethods()) {
-            if (dataMethod.getName().equals(methodName)) {
-                return proxy.invokeSuper(obj, args);
-            }
+        if (COMPONENT_DATA_METHODS.contains(methodName)) {
+            return proxy.invokeSuper(obj, args);
         }
 
         // Skip page objects
@@ -47,18 +78,55 @@ public class ComponentMethodInterceptorV2 implements MethodInterceptor {
         // Skip finalize method
         if (!"finalize".equals(methodName)) {
             PageComponent pageComponent = (PageComponent) obj;
-            Field coreElement = FieldUtils.getField(PageComponent.class, "coreElement", true);
-            WebElement currentCoreElement = (WebElement) coreElement.get(pageComponent);
-            WebElement newCoreElement = locator.findElement();
-            boolean staleElement = isStale(currentCoreElement);
-            if (currentCoreElement == null || staleElement || !currentCoreElement.equals(newCoreElement)) {
-                Failsafe.with(Utils.getRetryAtleastOncePolicy()).run(() -> initComponent(pageComponent));
+            WebElement currentCoreElement = (WebElement) CORE_ELEMENT.get(pageComponent);
+            if (TestProperties.getInstance().isComponentHandleCache()) {
+                String currentGeneration = getGeneration(currentCoreElement);
+                if (currentGeneration == null || !currentGeneration.equals(generation)) {
+                    refresh(pageComponent, currentCoreElement);
+                    generation = currentGeneration;
+                }
+            } else {
+                refresh(pageComponent, currentCoreElement);
             }
         }
 
         return proxy.invokeSuper(obj, args);
     }
 
+    /**
+     * Re-initialize the component if the current element is stale or the locator finds a different element
+     *
+     * @param pageComponent      - Page Component
+     * @param currentCoreElement - Current element of the page component
+     */
+    private void refresh(PageComponent pageComponent, WebElement currentCoreElement) {
+        WebElement newCoreElement = locator.findElement();
+        boolean staleElement = isStale(currentCoreElement);
+        if (currentCoreElement == null || staleElement || !currentCoreElement.equals(newCoreElement)) {
+            Failsafe.with(Utils.getRetryAtleastOncePolicy()).run(() -> initComponent(pageComponent));
+        }
+    }
+
+    /**
+     * Get the DOM generation which changes if the document is replaced or elements are added/removed
+     *
+     * @param currentCoreElement - Current element of the page component used to get the driver
+     * @return null if cannot be determined else DOM generation
+     */
+    private String getGeneration(WebElement currentCoreElement) {
+        if (!(currentCoreElement instanceof WrapsDriver)) {
+            return null;
+        }
+
+        try {
+            JavascriptExecutor executor = (JavascriptExecutor) ((WrapsDriver) currentCoreElement).getWrappedDriver();
+            Object value = executor.executeScript(DOM_GENERATION);
+            return (value == null) ? null : value.toString();
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+
     private boolean isStale(WebElement currentCoreElement) {
         if (currentCoreElement == null) {
             return false;
@@ -75,9 +143,7 @@ public class ComponentMethodInterceptorV2 implements MethodInterceptor {
     @SuppressWarnings("squid:S00112")
     private void initComponent(PageComponent pageComponent) throws Exception {
         WebElement newCoreElement = locator.findElement();
-        Method m = PageComponent.class.getDeclaredMethod("initComponent", WebElement.class);
-        m.setAccessible(true);
-        m.invoke(pageComponent, newCoreElement);
+        INIT_COMPONENT.invoke(pageComponent, newCoreElement);
     }
 
 }
@@ -1,6 +1,7 @@
 package com.taf.automation.ui.support;
 
 import com.taf.automation.ui.support.util.DataInstillerUtils;
+import com.taf.automation.ui.support.util.XStreamRegistry;
 import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.annotations.XStreamOmitField;
 import com.thoughtworks.xstream.converters.extended.ISO8601GregorianCalendarConverter;
@@ -52,20 +53,34 @@ public abstract class DataPersistenceV2 extends DataPersistence {
     @Override
     public String toXML() {
         String header = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n\n";
-        XStream xstream = getXstream();
+        String converterSet = (useXstreamForAliases) ? XStreamRegistry.ALIASES : XStreamRegistry.DEFAULT;
+        XStream xstream = XStreamRegistry.getInstance().get(getClass(), converterSet, () -> createXstream(null));
         String xml = xstream.toXML(this);
         return header + xml;
     }
 
     @Override
     public XStream getXstream() {
+        return createXstream(getJexlContext());
+    }
+
+    /**
+     * Create &amp; configure the XStream for this class<BR>
+     * <B>Note: </B> The XStream shared by toXML is created with a null Jexl Context (i.e. default Jexl Context) and
+     * cached for the class.  As such, subclasses that need additional configuration (aliases, converters) must
+     * override this method (instead of getXstream) and the configuration must only depend on the class.
+     *
+     * @param jexlContext - Jexl Context for the converters (null to use the default)
+     * @return XStream
+     */
+    protected XStream createXstream(JexlContext jexlContext) {
         XStream xStream;
         if (useXstreamForAliases) {
             xStream = new XStream();
             xStream.registerConverter(new DataAliasesConverterV2(null));
             xStream.registerConverter(new ISO8601GregorianCalendarConverter());
         } else {
-            xStream = DataInstillerUtils.getXStream(getJexlContext());
+            xStream = DataInstillerUtils.getXStream(jexlContext);
         }
 
         xStream.processAnnotations(this.getClass());
@@ -0,0 +1,119 @@
+package com.taf.automation.ui.support;
+
+import com.taf.automation.ui.support.converters.Credentials;
+import com.taf.automation.ui.support.converters.CreditCard;
+import com.taf.automation.ui.support.converters.DynamicCredentials;
+import com.taf.automation.ui.support.util.CryptoUtils;
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the default aliases (dates &amp; credentials) that is shared by all the test contexts.<BR>
+ * The snapshot is computed once and only re-computed when the date changes or the credentials in the test
+ * properties are replaced.<BR>
+ * <B>Note: </B> The snapshot must not be modified.  Each context copies the snapshot into its aliases.
+ */
+public class DefaultAliases {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int DAYS = 10;
+    private static volatile DefaultAliases snapshot;
+    private final LocalDate today;
+    private final Object[] sources;
+    private final Map<String, String> aliases;
+
+    private DefaultAliases(LocalDate today, Object[] sources, Map<String, String> aliases) {
+        this.today = today;
+        this.sources = sources;
+        this.aliases = Collections.unmodifiableMap(aliases);
+    }
+
+    /**
+     * Get the default aliases for the test properties
+     *
+     * @param props - Test Properties to get the credentials from
+     * @return unmodifiable map of the default aliases
+     */
+    public static Map<String, String> get(TestProperties props) {
+        LocalDate today = LocalDate.now();
+        Object[] sources = new Object[]{props.getAppCredentials(), props.getCreditCards(), props.getDynamicCredentials()};
+        DefaultAliases current = snapshot;
+        if (current == null || !current.isValid(today, sources)) {
+            synchronized (DefaultAliases.class) {
+                current = snapshot;
+                if (current == null || !current.isValid(today, sources)) {
+                    current = new DefaultAliases(today, sources, compute(today, props));
+                    snapshot = current;
+                }
+            }
+        }
+
+        return current.aliases;
+    }
+
+    /**
+     * Force the default aliases to be re-computed on the next use such as after the test properties are reloaded
+     */
+    public static void invalidate() {
+        snapshot = null;
+    }
+
+    private boolean isValid(LocalDate date, Object[] currentSources) {
+        if (!today.equals(date)) {
+            return false;
+        }
+
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] != currentSources[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static Map<String, String> compute(LocalDate today, TestProperties props) {
+        Map<String, String> aliases = new LinkedHashMap<>();
+        aliases.put("today", FORMATTER.format(today));
+        for (int i = 1; i <= DAYS; i++) {
+            aliases.put("today_plus_" + i, FORMATTER.format(today.plusDays(i)));
+            aliases.put("today_minus_" + i, FORMATTER.format(today.minusDays(i)));
+        }
+
+        Credentials[] credentials = ObjectUtils.defaultIfNull(props.getAppCredentials(), new Credentials[0]);
+        for (int i = 0; i < credentials.length; i++) {
+            aliases.put("email_" + (i + 1), credentials[i].getEmailOrName());
+            aliases.put("password_" + (i + 1), credentials[i].getPassword());
+        }
+
+        CreditCard[] creditCards = ObjectUtils.defaultIfNull(props.getCreditCards(), new CreditCard[0]);
+        for (int i = 0; i < creditCards.length; i++) {
+            String num = (i > 0) ? "_" + i + 1 : "";
+            aliases.put("card_number" + num, creditCards[i].getNumber());
+            aliases.put("card_month" + num, creditCards[i].getMonth());
+            aliases.put("card_year" + num, creditCards[i].getYear());
+            aliases.put("card_code" + num, creditCards[i].getCode());
+            aliases.put("card_name" + num, creditCards[i].getCardHolder());
+        }
+
+        DynamicCredentials[] dynamicCredentials = ObjectUtils.defaultIfNull(props.getDynamicCredentials(), new DynamicCredentials[0]);
+        CryptoUtils crypto = null;
+        for (DynamicCredentials item : dynamicCredentials) {
+            aliases.put("user_" + item.getRole(), item.getUser());
+            String password = item.getPassword();
+            if (item.isDecrypt()) {
+                crypto = (crypto == null) ? new CryptoUtils() : crypto;
+                password = crypto.decrypt(password);
+            }
+
+            aliases.put("password_" + item.getRole(), password);
+        }
+
+        return aliases;
+    }
+
+}
@@ -5,6 +5,7 @@ import com.taf.automation.ui.support.csv.CsvTestData;
 import com.taf.automation.ui.support.util.CryptoUtils;
 import com.taf.automation.ui.support.util.DataInstillerUtils;
 import com.taf.automation.ui.support.util.Helper;
+import com.taf.automation.ui.support.util.XStreamRegistry;
 import com.thoughtworks.xstream.XStream;
 import datainstiller.data.DataAliases;
 import datainstiller.data.DataPersistence;
@@ -54,6 +55,17 @@ public class DomainObject extends DomainObjectModel {
         return xStream;
     }
 
+    /**
+     * Get the XStream (configured the same as getXstream) that is shared by all threads<BR>
+     * <B>Note: </B> This is for serializing objects (such as for comparisons) and the returned XStream must not
+     * be modified.<BR>
+     *
+     * @return XStream
+     */
+    public static XStream getSharedXstream() {
+        return XStreamRegistry.getInstance().get(DomainObject.class, XStreamRegistry.DEFAULT, () -> new DomainObject(null).getXstream());
+    }
+
     private void addToGlobalAliases(DataPersistence data) {
         DataAliases global = PageComponentContext.getGlobalAliases();
         DataAliases local = data.getDataAliases();
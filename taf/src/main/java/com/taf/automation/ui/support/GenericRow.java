@@ -4,12 +4,18 @@ import com.taf.automation.api.ApiUtils;
 import com.taf.automation.ui.support.util.Utils;
 import com.thoughtworks.xstream.annotations.XStreamOmitField;
 import net.jodah.failsafe.Failsafe;
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.MethodInterceptor;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.reflect.FieldUtils;
 import ui.auto.core.data.DataTypes;
 import ui.auto.core.pagecomponent.PageComponent;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +30,12 @@ public class GenericRow extends PageObjectV2 {
     @XStreamOmitField
     private Map<String, String> substitutions;
 
+    @XStreamOmitField
+    private List<String> cells;
+
+    @XStreamOmitField
+    private TestContext pendingContext;
+
     public GenericRow() {
         super();
     }
@@ -43,6 +55,13 @@ public class GenericRow extends PageObjectV2 {
         return "row";
     }
 
+    /**
+     * @return the value substituted for the row key in the locators
+     */
+    public String getRowKeyValue() {
+        return getSubstitutions().get(getRowKey());
+    }
+
     public void updateRowKey(String value) {
         getSubstitutions().put(getRowKey(), value);
     }
@@ -67,6 +86,102 @@ public class GenericRow extends PageObjectV2 {
         initPage(context, getSubstitutions());
     }
 
+    /**
+     * Store the context such that the page is only initialized when the row is used.  Each component is replaced
+     * with a placeholder that initializes the page (bind) on the first call to the component.
+     *
+     * @param context - Context to initialize the page with
+     */
+    @SuppressWarnings("squid:S00112")
+    public void initPageLater(TestContext context) {
+        pendingContext = context;
+        for (Field field : FieldUtils.getAllFieldsList(getClass())) {
+            int modifiers = field.getModifiers();
+            if (PageComponent.class.isAssignableFrom(field.getType()) && !Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
+                try {
+                    FieldUtils.writeField(field, this, getBindOnUse(field), true);
+                } catch (IllegalAccessException ex) {
+                    throw new RuntimeException(ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get a placeholder component that initializes the page on first use &amp; then calls the initialized component
+     *
+     * @param field - Component field
+     * @return placeholder component
+     */
+    private Object getBindOnUse(Field field) {
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(field.getType());
+        enhancer.setCallback((MethodInterceptor) (obj, method, args, proxy) -> {
+            if ("finalize".equals(method.getName())) {
+                return proxy.invokeSuper(obj, args);
+            }
+
+            bind();
+            Object component = ApiUtils.readField(field, this);
+            if (component == null || component == obj) {
+                // Page initialization reads the data of the placeholder or did not replace it
+                return proxy.invokeSuper(obj, args);
+            }
+
+            try {
+                return method.invoke(component, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        });
+
+        return enhancer.create();
+    }
+
+    /**
+     * Initialize the page if the initialization was deferred.  This is done automatically on first use of a
+     * component of a row that was extracted in bulk.
+     */
+    public void bind() {
+        if (pendingContext != null) {
+            TestContext context = pendingContext;
+            pendingContext = null;
+            initPage(context);
+        }
+    }
+
+    /**
+     * @return true if the page initialization was deferred and the row has not been used yet
+     */
+    public boolean isBindPending() {
+        return pendingContext != null;
+    }
+
+    public void updateCells(List<String> cells) {
+        this.cells = cells;
+    }
+
+    /**
+     * Get the cell values that were extracted with the row.<BR>
+     * <B>Note: </B> The values are only available if the table rows were extracted in bulk
+     *
+     * @return unmodifiable list of the cell values
+     */
+    public List<String> getCells() {
+        return (cells == null) ? Collections.emptyList() : Collections.unmodifiableList(cells);
+    }
+
+    /**
+     * Get the cell value that was extracted with the row
+     *
+     * @param index - Column index (starting at 0)
+     * @return null if cell does not exist else the cell value
+     */
+    public String getCell(int index) {
+        List<String> all = getCells();
+        return (index >= 0 && index < all.size()) ? all.get(index) : null;
+    }
+
     /**
      * Get a value from the row that uniquely identifies it
      *
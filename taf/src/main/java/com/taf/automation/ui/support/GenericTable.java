@@ -16,9 +16,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.isEmptyOrNullString;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
@@ -28,10 +32,15 @@ import static org.hamcrest.Matchers.notNullValue;
  */
 public abstract class GenericTable<T extends GenericRow> extends PageObjectV2 {
     private static final String NO_PAGINATION = "Pagination is not supported by this table";
+    private static final String GET_TABLE_ROWS = Utils.readResource("JS/GetTableRows.js");
+    private static final Pattern REGEX_META_CHARACTERS = Pattern.compile("[\\\\\\[\\]{}()<>*+\\-=!?^$|.]");
 
     @XStreamOmitField
     private List<T> tableRows;
 
+    @XStreamOmitField
+    private TableRowIndex<T> rowIndex;
+
     public GenericTable() {
         super();
     }
@@ -42,9 +51,49 @@ public abstract class GenericTable<T extends GenericRow> extends PageObjectV2 {
 
     protected GenericTable<T> resetTableRows() {
         tableRows = null;
+        rowIndex = null;
         return this;
     }
 
+    /**
+     * Get the index of the current table rows.  The index is re-created when the table rows are reset.
+     *
+     * @return TableRowIndex
+     */
+    protected TableRowIndex<T> getRowIndex() {
+        List<T> rows = getTableRows();
+        if (rowIndex == null || !rowIndex.isFor(rows)) {
+            rowIndex = new TableRowIndex<>(rows);
+        }
+
+        return rowIndex;
+    }
+
+    /**
+     * Find a row from the table using the row key
+     *
+     * @param key - Row Key value
+     * @return matching row (or assertion failure if a matching row cannot be found)
+     */
+    protected T findTableRowByKey(String key) {
+        T match = getRowIndex().getByKey(key);
+        assertThat("Could not find Row with key:  " + key, match, notNullValue());
+        match.bind();
+        return match;
+    }
+
+    /**
+     * Find the rows from the table that match the cell values for the columns.  Null values are ignored.<BR>
+     * <B>Note: </B> The cell values are only available if the table rows were extracted in bulk.  As such, there is
+     * an assertion failure if the rows do not have the cell values.
+     *
+     * @param criteria - Map of the column index (starting at 0) to the cell value
+     * @return the matching rows (not bound)
+     */
+    protected List<T> findTableRows(Map<Integer, String> criteria) {
+        return getRowIndex().getByColumns(criteria);
+    }
+
     protected List<T> getTableRows() {
         if (tableRows != null) {
             return tableRows;
@@ -64,6 +113,11 @@ public abstract class GenericTable<T extends GenericRow> extends PageObjectV2 {
         String randomBaseValue = getRandomBaseValue();
         Map<String, String> substitutions = getSubstitutions();
         List<WebElement> all = Utils.until(ExpectedConditionsUtil.numberOfElementsToBeMoreThan(getAllRowsLocator(), 0, getIncludePredicate()));
+        if (isBulkExtraction()) {
+            addTableRowsInBulk(all, randomBaseValue, substitutions);
+            return tableRows;
+        }
+
         for (int i = 0; i < all.size(); i++) {
             // If necessary, we will make the row unique
             String randomIdValue = randomBaseValue + i;
@@ -83,6 +137,42 @@ public abstract class GenericTable<T extends GenericRow> extends PageObjectV2 {
         return tableRows;
     }
 
+    /**
+     * Add the table rows using a single call to get the row keys &amp; cell values.  The page initialization of each
+     * row is deferred until the row is used.
+     *
+     * @param all             - Row elements
+     * @param randomBaseValue - Base value to make the rows unique
+     * @param substitutions   - Additional substitutions
+     */
+    private void addTableRowsInBulk(List<WebElement> all, String randomBaseValue, Map<String, String> substitutions) {
+        String attribute = getAttributeToExtractRowKey();
+        String baseValue = (isAddAttributeInBulk(attribute)) ? randomBaseValue : null;
+        Object result = JsUtils.execute(getDriver(), GET_TABLE_ROWS, all, attribute, baseValue);
+        assertThat("Could not extract the table rows", result, instanceOf(List.class));
+
+        List<?> extracted = (List<?>) result;
+        assertThat("Number of extracted table rows", extracted.size(), equalTo(all.size()));
+        for (int i = 0; i < extracted.size(); i++) {
+            Map<?, ?> item = (Map<?, ?>) extracted.get(i);
+            String rowID = Objects.toString(item.get("key"), null);
+            assertThat("Row Index (" + i + ") missing " + attribute + " attribute", rowID, not(isEmptyOrNullString()));
+
+            List<String> cells = new ArrayList<>();
+            Object values = item.get("cells");
+            if (values instanceof List) {
+                ((List<?>) values).forEach(value -> cells.add(Objects.toString(value, "")));
+            }
+
+            T row = getNewRowInstance();
+            row.updateRowKey(rowID);
+            row.updateSubstitutions(substitutions);
+            row.updateCells(cells);
+            row.initPageLater(getContext());
+            tableRows.add(row);
+        }
+    }
+
     /**
      * Find a row from the table using the given unique identifier. It is compared with the result of getRowIdentifier()
      * for each row to find a regular expression match.
@@ -104,7 +194,20 @@ public abstract class GenericTable<T extends GenericRow> extends PageObjectV2 {
      */
     protected T findTableRow(String identifier, String columnName) {
         T match = null;
+        if (isIndexRowIdentifier() && !REGEX_META_CHARACTERS.matcher(identifier).find()) {
+            // Matching a regular expression without meta characters is the same as an exact match
+            match = getRowIndex().getByIdentifier(identifier);
+            if (match != null && identifier.equals(match.getRowIdentifier())) {
+                return match;
+            }
+
+            // The row identifiers changed since they were indexed, as such fall back to checking every row
+            rowIndex = null;
+            match = null;
+        }
+
         for (T row : getTableRows()) {
+            row.bind();
             if (StringUtils.defaultString(row.getRowIdentifier()).matches(identifier)) {
                 match = row;
                 break;
@@ -145,6 +248,7 @@ public abstract class GenericTable<T extends GenericRow> extends PageObjectV2 {
 
         T match = null;
         for (T row : getTableRows()) {
+            row.bind();
             if (isMatch(row, rowToMatch)) {
                 match = row;
                 break;
@@ -304,6 +408,51 @@ public abstract class GenericTable<T extends GenericRow> extends PageObjectV2 {
         return JsUtils.ID;
     }
 
+    /**
+     * Determine if the rows are extracted in bulk.  In bulk, a single call gets the row keys &amp; cell values for
+     * all rows and the page initialization of each row is deferred until a component of the row is used.<BR>
+     * <B>Notes: </B>
+     * <OL>
+     * <LI>The default implementation returns false.  Override to return true for the tables that support it.</LI>
+     * <LI>The methods addAttributeToRow &amp; getRowKey are not used in bulk.  The attribute is added if
+     * isAddAttributeInBulk returns true &amp; the row key is the attribute value.  As such, a table that overrides
+     * these methods should only use bulk extraction if isAddAttributeInBulk is consistent with them.</LI>
+     * </OL>
+     *
+     * @return true to extract the rows in bulk
+     */
+    protected boolean isBulkExtraction() {
+        return false;
+    }
+
+    /**
+     * Determine if findTableRow uses an index of the row identifiers when the identifier is an exact match.  The index
+     * is built incrementally as the rows are searched &amp; kept until the table rows are reset.<BR>
+     * <B>Notes: </B>
+     * <OL>
+     * <LI>The default implementation returns false.  Override to return true for the tables with rows that do not
+     * change while the table rows are used.</LI>
+     * <LI>The matching row is verified &amp; all the rows are checked if the row identifier of the row changed</LI>
+     * </OL>
+     *
+     * @return true to index the row identifiers
+     */
+    protected boolean isIndexRowIdentifier() {
+        return false;
+    }
+
+    /**
+     * Determine if the attribute should be added to the rows (to make them unique) when the rows are extracted
+     * in bulk.  This needs to be consistent with addAttributeToRow.
+     *
+     * @param attribute - Attribute that will be used to extract the row key
+     * @return true to add the attribute to the rows
+     */
+    protected boolean isAddAttributeInBulk(String attribute) {
+        // Do not add id attribute because this could break the page.
+        return !StringUtils.equals(JsUtils.ID, attribute);
+    }
+
     /**
      * Get the predicate used to test if a row should be included.<BR>
      * <B>Notes: </B>
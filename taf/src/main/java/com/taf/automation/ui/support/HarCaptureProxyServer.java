@@ -0,0 +1,48 @@
+package com.taf.automation.ui.support;
+
+import net.lightbody.bmp.BrowserMobProxyServer;
+import net.lightbody.bmp.proxy.CaptureType;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Browser Mob Proxy Server that allows the Har capture types to be decided for each request.<BR>
+ * <B>Notes: </B>
+ * <OL>
+ * <LI>The Har capture filter gets the capture types when it is created for the request.  A filter that is added
+ * first (such as by HarCaptureRules) can set the capture types for the request before the Har capture filter is
+ * created &amp; clear them after.</LI>
+ * <LI>The request capture types only apply to the thread (of the proxy) that is creating the filters for the
+ * request.  All other threads get the capture types of the proxy.</LI>
+ * </OL>
+ */
+public class HarCaptureProxyServer extends BrowserMobProxyServer {
+    private final ThreadLocal<Set<CaptureType>> requestCaptureTypes = new ThreadLocal<>();
+
+    /**
+     * Set the Har capture types for the request that the current thread is creating the filters for
+     *
+     * @param captureTypes - Capture Types for the request (null to use the capture types of the proxy)
+     */
+    public void setRequestCaptureTypes(Set<CaptureType> captureTypes) {
+        if (captureTypes == null) {
+            requestCaptureTypes.remove();
+        } else {
+            requestCaptureTypes.set(captureTypes);
+        }
+    }
+
+    @Override
+    public EnumSet<CaptureType> getHarCaptureTypes() {
+        Set<CaptureType> captureTypes = requestCaptureTypes.get();
+        if (captureTypes == null) {
+            return super.getHarCaptureTypes();
+        }
+
+        EnumSet<CaptureType> types = EnumSet.noneOf(CaptureType.class);
+        types.addAll(captureTypes);
+        return types;
+    }
+
+}
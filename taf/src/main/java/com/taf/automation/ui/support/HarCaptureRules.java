@@ -0,0 +1,318 @@
+package com.taf.automation.ui.support;
+
+import com.taf.automation.ui.support.converters.HarCaptureRule;
+import com.taf.automation.ui.support.converters.HarCaptureRule.Capture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+import net.lightbody.bmp.BrowserMobProxy;
+import net.lightbody.bmp.core.har.Har;
+import net.lightbody.bmp.core.har.HarContent;
+import net.lightbody.bmp.core.har.HarEntry;
+import net.lightbody.bmp.core.har.HarRequest;
+import net.lightbody.bmp.core.har.HarResponse;
+import net.lightbody.bmp.proxy.CaptureType;
+import org.apache.commons.lang3.ObjectUtils;
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersAdapter;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
+
+import java.net.URI;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Applies the Har capture rules to the entries of a proxy such that only what is necessary is captured.<BR>
+ * The first rule that matches the request host &amp; path and the response content type decides what is kept
+ * (NONE, HEADERS or BODY) else the default capture is used.<BR>
+ * <B>Notes: </B>
+ * <OL>
+ * <LI>If the proxy is a HarCaptureProxyServer, then the capture types are decided for each request using the rules
+ * that match the request host &amp; path.  A request only matching NONE rules is captured without headers &amp;
+ * bodies and the requests that do not match any rule use the default capture.  Rules with a content type can only
+ * be decided after the response.  So, the request is captured for the content type rules that match the request
+ * &amp; the rule that applies after them.</LI>
+ * <LI>For other proxies, the capture types are the union of the rules &amp; the default for all requests.</LI>
+ * <LI>The default capture of BODY only keeps the request content (same as without rules) and the response content
+ * is only captured if a rule is BODY.</LI>
+ * <LI>The rules are applied when the response is completed.  The entries are kept in the Har (such that the HarSearch
+ * indexes do not change) but the entries matching NONE only have the request line, response status, sizes &amp;
+ * timings.</LI>
+ * </OL>
+ */
+public class HarCaptureRules {
+    private static final String HOST = "Host";
+    private final BrowserMobProxy proxy;
+    private final HarCaptureRule[] rules;
+    private final Capture defaultCapture;
+    private final HarEntryTracker tracker;
+
+    private HarCaptureRules(BrowserMobProxy proxy, HarCaptureRule[] rules, Capture defaultCapture) {
+        this.proxy = proxy;
+        this.rules = rules;
+        this.defaultCapture = defaultCapture;
+        tracker = new HarEntryTracker();
+    }
+
+    /**
+     * Get the Har capture types necessary to capture what the rules need.<BR>
+     * <B>Note: </B> The default capture of BODY is the same as the proxy captures without rules (request content).
+     * The response content is only captured if a rule explicitly captures the BODY.
+     *
+     * @param rules          - Har Capture Rules
+     * @param defaultCapture - Capture for the requests that do not match any rule
+     * @return Capture Types
+     */
+    public static Set<CaptureType> getCaptureTypes(HarCaptureRule[] rules, Capture defaultCapture) {
+        Capture max = defaultCapture;
+        boolean responseContent = false;
+        for (HarCaptureRule rule : rules) {
+            max = (rule.getCapture().compareTo(max) > 0) ? rule.getCapture() : max;
+            responseContent = responseContent || rule.getCapture() == Capture.BODY;
+        }
+
+        return toCaptureTypes(max, responseContent);
+    }
+
+    /**
+     * Get the Har capture types necessary to capture what the rules that can apply to the request need
+     *
+     * @param request - Request to get the capture types for
+     * @return Capture Types
+     */
+    private Set<CaptureType> getCaptureTypes(HttpRequest request) {
+        String host = null;
+        String path = null;
+        try {
+            URI uri = URI.create(request.getUri());
+            host = uri.getHost();
+            path = uri.getRawPath();
+            if (host == null && request.headers().get(HOST) != null) {
+                host = URI.create("http://" + request.headers().get(HOST)).getHost();
+            }
+        } catch (Exception ignore) {
+            //
+        }
+
+        Capture max = Capture.NONE;
+        boolean responseContent = false;
+        for (HarCaptureRule rule : rules) {
+            if (!rule.matchesRequest(host, path)) {
+                continue;
+            }
+
+            max = (rule.getCapture().compareTo(max) > 0) ? rule.getCapture() : max;
+            responseContent = responseContent || rule.getCapture() == Capture.BODY;
+            if (!rule.isContentTypeNecessary()) {
+                // The rules after this rule (and the default) can never apply to the request
+                return toCaptureTypes(max, responseContent);
+            }
+        }
+
+        max = (defaultCapture.compareTo(max) > 0) ? defaultCapture : max;
+        return toCaptureTypes(max, responseContent);
+    }
+
+    private static Set<CaptureType> toCaptureTypes(Capture max, boolean responseContent) {
+        Set<CaptureType> types = EnumSet.noneOf(CaptureType.class);
+        if (max.compareTo(Capture.HEADERS) >= 0) {
+            types.addAll(CaptureType.getHeaderCaptureTypes());
+            types.addAll(CaptureType.getCookieCaptureTypes());
+        }
+
+        if (max == Capture.BODY) {
+            types.add(CaptureType.REQUEST_CONTENT);
+        }
+
+        if (responseContent) {
+            types.add(CaptureType.RESPONSE_CONTENT);
+        }
+
+        return types;
+    }
+
+    /**
+     * Determine if the rules need to be attached to the proxy.  This is not necessary if there are no rules and the
+     * default capture is BODY as this is the same as the proxy captures without rules.
+     *
+     * @param props - Test Properties with the Har capture rules
+     * @return true if the rules need to be attached
+     */
+    public static boolean isNecessary(TestProperties props) {
+        return (props.getHarCaptureRules() != null && props.getHarCaptureRules().length > 0)
+                || ObjectUtils.defaultIfNull(props.getHarCaptureDefault(), Capture.BODY) != Capture.BODY;
+    }
+
+    /**
+     * Enable the capture types necessary for the rules &amp; apply the rules to the completed entries of the proxy.<BR>
+     * <B>Note: </B> The Har capture filter must already be added (newHar) such that this filter runs after it &amp;
+     * the filter that decides the capture types for the request runs before it.
+     *
+     * @param proxy - Proxy to add the filter to
+     * @param props - Test Properties with the Har capture rules
+     * @return HarCaptureRules
+     */
+    public static HarCaptureRules attach(BrowserMobProxy proxy, TestProperties props) {
+        HarCaptureRule[] rules = ObjectUtils.defaultIfNull(props.getHarCaptureRules(), new HarCaptureRule[0]);
+        Capture defaultCapture = ObjectUtils.defaultIfNull(props.getHarCaptureDefault(), Capture.BODY);
+        HarCaptureRules captureRules = new HarCaptureRules(proxy, rules, defaultCapture);
+        HarCaptureProxyServer server = (proxy instanceof HarCaptureProxyServer) ? (HarCaptureProxyServer) proxy : null;
+        if (server == null) {
+            proxy.setHarCaptureTypes(getCaptureTypes(rules, defaultCapture));
+        } else {
+            proxy.setHarCaptureTypes(getCaptureTypes(new HarCaptureRule[0], defaultCapture));
+            proxy.addFirstHttpFilterFactory(new HttpFiltersSourceAdapter() {
+                @Override
+                public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+                    server.setRequestCaptureTypes(captureRules.getCaptureTypes(originalRequest));
+                    return null;
+                }
+            });
+        }
+
+        proxy.addLastHttpFilterFactory(new HttpFiltersSourceAdapter() {
+            @Override
+            public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+                if (server != null) {
+                    // The Har capture filter for the request has already been created
+                    server.setRequestCaptureTypes(null);
+                }
+
+                return new HttpFiltersAdapter(originalRequest, ctx) {
+                    private HarEntry entry;
+
+                    @Override
+                    public HttpResponse clientToProxyRequest(HttpObject httpObject) {
+                        if (httpObject instanceof HttpRequest) {
+                            entry = captureRules.claim((HttpRequest) httpObject);
+                        }
+
+                        return null;
+                    }
+
+                    @Override
+                    public HttpObject serverToProxyResponse(HttpObject httpObject) {
+                        if (httpObject instanceof LastHttpContent) {
+                            apply();
+                        }
+
+                        return httpObject;
+                    }
+
+                    @Override
+                    public void serverToProxyResponseTimedOut() {
+                        apply();
+                    }
+
+                    @Override
+                    public void proxyToServerConnectionFailed() {
+                        apply();
+                    }
+
+                    private void apply() {
+                        // The rules are only applied once to the entry
+                        HarEntry completed = entry;
+                        entry = null;
+                        captureRules.apply(completed);
+                    }
+                };
+            }
+        });
+
+        return captureRules;
+    }
+
+    private HarEntry claim(HttpRequest request) {
+        Har har = proxy.getHar();
+        return tracker.claim((har == null) ? null : har.getLog(), request.getMethod().name(), request.getUri());
+    }
+
+    /**
+     * Forget the entries of the previous Har that were not claimed such as when a new Har is started on a
+     * re-used proxy
+     */
+    public void reset() {
+        tracker.reset();
+    }
+
+    /**
+     * Remove the information from the completed entry that the matching rule does not capture
+     *
+     * @param entry - Completed entry
+     */
+    private void apply(HarEntry entry) {
+        if (entry == null) {
+            return;
+        }
+
+        HarRequest request = entry.getRequest();
+        HarResponse response = entry.getResponse();
+        HarContent content = (response == null) ? null : response.getContent();
+        String host = null;
+        String path = null;
+        try {
+            URI uri = URI.create(request.getUrl());
+            host = uri.getHost();
+            path = uri.getRawPath();
+        } catch (Exception ignore) {
+            //
+        }
+
+        HarCaptureRule matched = null;
+        for (HarCaptureRule rule : rules) {
+            if (rule.matches(host, path, (content == null) ? null : content.getMimeType())) {
+                matched = rule;
+                break;
+            }
+        }
+
+        if (matched == null && defaultCapture == Capture.BODY) {
+            // The default only keeps the request content which is the same as without rules
+            if (content != null) {
+                content.setText(null);
+            }
+
+            return;
+        }
+
+        Capture capture = (matched == null) ? defaultCapture : matched.getCapture();
+        long maxBodySize = (matched == null) ? 0 : matched.getMaxBodySize();
+
+        if (capture == Capture.BODY && maxBodySize > 0 && content != null && getBodySize(content) > maxBodySize) {
+            capture = Capture.HEADERS;
+        }
+
+        if (capture == Capture.BODY) {
+            return;
+        }
+
+        if (request.getPostData() != null) {
+            request.getPostData().setText(null);
+        }
+
+        if (content != null) {
+            content.setText(null);
+        }
+
+        if (capture == Capture.NONE) {
+            request.getHeaders().clear();
+            request.getCookies().clear();
+            request.getQueryString().clear();
+            if (response != null) {
+                response.getHeaders().clear();
+                response.getCookies().clear();
+            }
+        }
+    }
+
+    private static long getBodySize(HarContent content) {
+        if (content.getSize() > 0) {
+            return content.getSize();
+        }
+
+        return (content.getText() == null) ? 0 : content.getText().length();
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.taf.automation.ui.support;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.LastHttpContent;
+import net.lightbody.bmp.BrowserMobProxy;
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersAdapter;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
+
+/**
+ * Notifies the threads waiting for Har entries as soon as a response has been completed by the proxy such that
+ * the wait does not need to poll.<BR>
+ * <B>Note: </B> The filter is added as the last filter such that the Har entry has been updated by the Har
+ * capture filter before the waiting threads are notified.  As BrowserMob Proxy adds the Har capture filter when
+ * the Har is created, the notifier must be attached after newHar.
+ */
+public class HarEntryNotifier {
+    private final Object lock = new Object();
+    private long completed;
+
+    private HarEntryNotifier() {
+        completed = 0;
+    }
+
+    /**
+     * Create a notifier for the proxy.<BR>
+     * <B>Note: </B> This must be called after the Har capture filter is added (newHar) otherwise the waiting threads
+     * are notified before the Har entry is completed.
+     *
+     * @param proxy - Proxy to add the filter to
+     * @return HarEntryNotifier
+     */
+    public static HarEntryNotifier attach(BrowserMobProxy proxy) {
+        HarEntryNotifier notifier = new HarEntryNotifier();
+        proxy.addLastHttpFilterFactory(new HttpFiltersSourceAdapter() {
+            @Override
+            public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+                return new HttpFiltersAdapter(originalRequest, ctx) {
+                    @Override
+                    public HttpObject serverToProxyResponse(HttpObject httpObject) {
+                        if (httpObject instanceof LastHttpContent) {
+                            notifier.publish();
+                        }
+
+                        return httpObject;
+                    }
+
+                    @Override
+                    public void serverToProxyResponseTimedOut() {
+                        notifier.publish();
+                    }
+
+                    @Override
+                    public void proxyToServerConnectionFailed() {
+                        notifier.publish();
+                    }
+                };
+            }
+        });
+
+        return notifier;
+    }
+
+    /**
+     * Notify the waiting threads that an entry has been completed
+     */
+    public void publish() {
+        synchronized (lock) {
+            completed++;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * @return the number of entries that have been completed
+     */
+    public long getCompleted() {
+        synchronized (lock) {
+            return completed;
+        }
+    }
+
+    /**
+     * Wait until another entry has been completed
+     *
+     * @param seen    - The number of completed entries already seen by the caller
+     * @param timeout - Max time (milliseconds) to wait
+     * @return the number of entries that have been completed
+     */
+    public long await(long seen, long timeout) {
+        long end = System.currentTimeMillis() + timeout;
+        synchronized (lock) {
+            long remaining = timeout;
+            while (completed == seen && remaining > 0) {
+                try {
+                    lock.wait(remaining);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                remaining = end - System.currentTimeMillis();
+            }
+
+            return completed;
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.taf.automation.ui.support;
+
+import net.lightbody.bmp.core.har.HarEntry;
+import net.lightbody.bmp.core.har.HarLog;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Tracks the entries added to the Har log by the Har capture filter such that a proxy filter that runs after it can
+ * get the entry for its request.<BR>
+ * <B>Notes: </B>
+ * <OL>
+ * <LI>Only the entries added since the previous claim are read from the Har log.  The entries are kept until
+ * claimed (up to a max) such that each claim only checks the entries of the requests in progress.</LI>
+ * <LI>The entry must have the same request method &amp; request target (path &amp; query) as the request</LI>
+ * </OL>
+ */
+public class HarEntryTracker {
+    private static final int MAX_UNCLAIMED = 1000;
+    private final Deque<HarEntry> unclaimed;
+    private HarLog log;
+    private int scanned;
+
+    public HarEntryTracker() {
+        unclaimed = new ArrayDeque<>();
+        scanned = 0;
+    }
+
+    /**
+     * Get the most recent entry for the request that has not been claimed yet &amp; claim it
+     *
+     * @param current - Current Har Log of the proxy
+     * @param method  - Request Method
+     * @param uri     - Request URI
+     * @return null if no entry found else the entry for the request
+     */
+    public synchronized HarEntry claim(HarLog current, String method, String uri) {
+        if (current == null) {
+            return null;
+        }
+
+        if (current != log) {
+            reset();
+            log = current;
+        }
+
+        int size = HarIndex.getSize(log);
+        for (; scanned < size; scanned++) {
+            HarEntry entry = HarIndex.getEntry(log, scanned);
+            if (entry != null && entry.getRequest() != null) {
+                unclaimed.addLast(entry);
+                if (unclaimed.size() > MAX_UNCLAIMED) {
+                    unclaimed.removeFirst();
+                }
+            }
+        }
+
+        String target = getTarget(uri);
+        Iterator<HarEntry> iterator = unclaimed.descendingIterator();
+        while (iterator.hasNext()) {
+            HarEntry entry = iterator.next();
+            if (StringUtils.equals(entry.getRequest().getMethod(), method)
+                    && target.equals(getTarget(entry.getRequest().getUrl()))) {
+                iterator.remove();
+                return entry;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the request target (path &amp; query) from the URL or URI
+     *
+     * @param url - Absolute URL or URI that is only the request target
+     * @return request target
+     */
+    private static String getTarget(String url) {
+        String value = StringUtils.defaultString(url);
+        int scheme = value.indexOf("://");
+        if (scheme < 0) {
+            return value;
+        }
+
+        int path = value.indexOf('/', scheme + 3);
+        return (path < 0) ? "/" : value.substring(path);
+    }
+
+    /**
+     * Forget the entries that were not claimed such as when a new Har is started
+     */
+    public synchronized void reset() {
+        unclaimed.clear();
+        log = null;
+        scanned = 0;
+    }
+
+}
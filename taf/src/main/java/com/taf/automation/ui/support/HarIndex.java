@@ -0,0 +1,279 @@
+package com.taf.automation.ui.support;
+
+import net.lightbody.bmp.core.har.HarEntry;
+import net.lightbody.bmp.core.har.HarLog;
+import org.apache.commons.lang3.StringUtils;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Index of the Har log entries by request method, host, path and response status.<BR>
+ * The index is updated incrementally such that only the entries added since the last update are examined.
+ * Entries without a response yet are re-checked on each update until the response status is known.<BR>
+ * <B>Notes: </B>
+ * <OL>
+ * <LI>The index is for the current thread's Har and is rebuilt if a new Har is started</LI>
+ * <LI>The indexes are positions in the Har log since it was started.  When entries are removed from the log (such
+ * as when the entries are streamed to disk), the positions do not change.  As such, use getEntry to get the entry
+ * for the position.</LI>
+ * </OL>
+ */
+public class HarIndex {
+    private static final ThreadLocal<HarIndex> INDEXES = new ThreadLocal<>();
+    private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+    private static final Map<HarLog, List<Integer>> REMOVED = Collections.synchronizedMap(new WeakHashMap<>());
+    private HarLog log;
+    private int indexed;
+    private Map<String, List<Integer>> methods;
+    private Map<String, List<Integer>> hosts;
+    private Map<String, List<Integer>> paths;
+    private Map<Integer, List<Integer>> statuses;
+    private List<Integer> pending;
+
+    private HarIndex(HarLog log) {
+        this.log = log;
+        indexed = 0;
+        methods = new HashMap<>();
+        hosts = new HashMap<>();
+        paths = new HashMap<>();
+        statuses = new HashMap<>();
+        pending = new ArrayList<>();
+    }
+
+    /**
+     * Get the index for the Har log of the current thread updated with any new entries
+     *
+     * @param log - Har Log of the current thread
+     * @return HarIndex
+     */
+    public static HarIndex getInstance(HarLog log) {
+        HarIndex index = INDEXES.get();
+        if (index == null || index.log != log) {
+            index = new HarIndex(log);
+            INDEXES.set(index);
+        }
+
+        index.update();
+        return index;
+    }
+
+    /**
+     * Get the compiled pattern for the regular expression which is cached for re-use
+     *
+     * @param regex - Regular Expression
+     * @return Pattern
+     */
+    public static Pattern getPattern(String regex) {
+        return PATTERNS.computeIfAbsent(regex, Pattern::compile);
+    }
+
+    /**
+     * Remove the entry from the Har log.  The position of the removed entry is recorded such that the positions of
+     * the other entries do not change.
+     *
+     * @param log   - Har Log to remove the entry from
+     * @param entry - Entry to remove
+     */
+    public static void removeEntry(HarLog log, HarEntry entry) {
+        synchronized (log) {
+            // Entries are only appended by the proxy.  So, the current position cannot change before it is removed.
+            List<HarEntry> entries = log.getEntries();
+            int current = 0;
+            for (HarEntry item : entries) {
+                if (item == entry) {
+                    break;
+                }
+
+                current++;
+            }
+
+            if (!entries.removeIf(item -> item == entry)) {
+                return;
+            }
+
+            List<Integer> removed = REMOVED.computeIfAbsent(log, key -> new ArrayList<>());
+            int index = current;
+            for (Integer position : removed) {
+                if (position > index) {
+                    break;
+                }
+
+                index++;
+            }
+
+            int position = Collections.binarySearch(removed, index);
+            removed.add(-position - 1, index);
+        }
+    }
+
+    /**
+     * Get the entry using the position in the Har log
+     *
+     * @param log   - Har Log
+     * @param index - Position of the entry since the Har log was started
+     * @return null if the entry was removed else the entry
+     */
+    public static HarEntry getEntry(HarLog log, int index) {
+        synchronized (log) {
+            List<Integer> removed = REMOVED.getOrDefault(log, Collections.emptyList());
+            int count = Collections.binarySearch(removed, index);
+            if (count >= 0) {
+                return null;
+            }
+
+            int position = index + count + 1;
+            List<HarEntry> entries = log.getEntries();
+            return (position >= 0 && position < entries.size()) ? entries.get(position) : null;
+        }
+    }
+
+    /**
+     * Get the number of entries in the Har log including the entries that were removed
+     *
+     * @param log - Har Log
+     * @return number of entries since the Har log was started
+     */
+    public static int getSize(HarLog log) {
+        synchronized (log) {
+            return REMOVED.getOrDefault(log, Collections.emptyList()).size() + log.getEntries().size();
+        }
+    }
+
+    /**
+     * @return the number of entries that have been indexed
+     */
+    public int size() {
+        return indexed;
+    }
+
+    /**
+     * Index the entries that were added since the last update
+     */
+    public void update() {
+        synchronized (log) {
+            int size = getSize(log);
+            for (int i = indexed; i < size; i++) {
+                add(i, getEntry(log, i));
+            }
+
+            indexed = size;
+            updatePending();
+        }
+    }
+
+    private void add(int index, HarEntry entry) {
+        if (entry == null || entry.getRequest() == null) {
+            return;
+        }
+
+        String url = StringUtils.defaultString(entry.getRequest().getUrl());
+        String host = null;
+        String path = null;
+        try {
+            URI uri = URI.create(url);
+            host = uri.getHost();
+            path = uri.getRawPath();
+        } catch (Exception ignore) {
+            //
+        }
+
+        append(methods, entry.getRequest().getMethod(), index);
+        append(hosts, host, index);
+        append(paths, path, index);
+
+        int status = getStatus(entry);
+        if (status > 0) {
+            append(statuses, status, index);
+        } else {
+            pending.add(index);
+        }
+    }
+
+    private void updatePending() {
+        Iterator<Integer> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            int index = iterator.next();
+            HarEntry entry = getEntry(log, index);
+            if (entry == null) {
+                iterator.remove();
+                continue;
+            }
+
+            int status = getStatus(entry);
+            if (status > 0) {
+                List<Integer> list = statuses.computeIfAbsent(status, key -> new ArrayList<>());
+                int position = Collections.binarySearch(list, index);
+                list.add(-position - 1, index);
+                iterator.remove();
+            }
+        }
+    }
+
+    private static int getStatus(HarEntry entry) {
+        return (entry == null || entry.getResponse() == null) ? 0 : entry.getResponse().getStatus();
+    }
+
+    private static <K> void append(Map<K, List<Integer>> map, K key, int index) {
+        if (key != null) {
+            map.computeIfAbsent(key, k -> new ArrayList<>()).add(index);
+        }
+    }
+
+    /**
+     * Get the indexes of the entries that match all the specified keys in ascending order
+     *
+     * @param equalsMethod - Entry's Request Method must equal this (or null if ignore method)
+     * @param equalsHost   - Entry's Request Host must equal this (or null if ignore host)
+     * @param equalsPath   - Entry's Request Path must equal this (or null if ignore path)
+     * @param equalsStatus - Entry's Response Status must equal this (or less than 1 if ignore status)
+     * @return null if no keys specified else list of the matching indexes
+     */
+    public List<Integer> getCandidates(String equalsMethod, String equalsHost, String equalsPath, int equalsStatus) {
+        List<List<Integer>> lists = new ArrayList<>();
+        if (equalsMethod != null) {
+            lists.add(methods.getOrDefault(equalsMethod, Collections.emptyList()));
+        }
+
+        if (equalsHost != null) {
+            lists.add(hosts.getOrDefault(equalsHost, Collections.emptyList()));
+        }
+
+        if (equalsPath != null) {
+            lists.add(paths.getOrDefault(equalsPath, Collections.emptyList()));
+        }
+
+        if (equalsStatus > 0) {
+            lists.add(statuses.getOrDefault(equalsStatus, Collections.emptyList()));
+        }
+
+        if (lists.isEmpty()) {
+            return null;
+        }
+
+        // Use the smallest list as the candidates which must be in all the other lists
+        lists.sort((list1, list2) -> Integer.compare(list1.size(), list2.size()));
+        List<Integer> candidates = new ArrayList<>();
+        for (Integer index : lists.get(0)) {
+            boolean all = true;
+            for (int i = 1; i < lists.size() && all; i++) {
+                all = Collections.binarySearch(lists.get(i), index) >= 0;
+            }
+
+            if (all) {
+                candidates.add(index);
+            }
+        }
+
+        return candidates;
+    }
+
+}
@@ -0,0 +1,383 @@
+package com.taf.automation.ui.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taf.automation.ui.support.converters.NetworkBudget;
+import com.taf.automation.ui.support.testng.Attachment;
+import net.lightbody.bmp.core.har.Har;
+import net.lightbody.bmp.core.har.HarEntry;
+import net.lightbody.bmp.core.har.HarLog;
+import net.lightbody.bmp.core.har.HarResponse;
+import net.lightbody.bmp.core.har.HarTimings;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Aggregates the network timings &amp; sizes of the Har entries for all the requests, each page and each
+ * endpoint (METHOD HOST/PATH) such that the network performance can be reported &amp; checked against budgets.<BR>
+ * <B>Notes: </B>
+ * <OL>
+ * <LI>Timings that are not applicable to a request (such as DNS when the connection is re-used) are not included</LI>
+ * <LI>Percentiles use the nearest rank method</LI>
+ * </OL>
+ */
+public class HarMetrics {
+    private static final String ALL = "ALL";
+    private static final int[] PERCENTILES = new int[]{50, 95, 99};
+    private static final int MAX_ENDPOINTS_IN_SUMMARY = 25;
+    private final Stats all;
+    private final Map<String, Stats> pages;
+    private final Map<String, Stats> endpoints;
+
+    /**
+     * The metrics that are aggregated
+     */
+    public enum Metric {
+        DNS,
+        CONNECT,
+        SSL,
+        WAIT,
+        RECEIVE,
+        TIME,
+        SIZE,
+        REQUESTS
+    }
+
+    /**
+     * The values of the metrics for a group of requests
+     */
+    public static class Stats {
+        private final Map<Metric, List<Long>> values;
+        private long[][] sorted;
+        private int requests;
+        private long bytes;
+
+        private Stats() {
+            values = new EnumMap<>(Metric.class);
+            requests = 0;
+            bytes = 0;
+        }
+
+        /**
+         * Add the values of a request
+         *
+         * @param values - Values of the metrics (index is the ordinal of the metric) where less than 0 is not applicable
+         */
+        private void add(long[] values) {
+            requests++;
+            for (Metric metric : Metric.values()) {
+                if (metric != Metric.REQUESTS && values[metric.ordinal()] >= 0) {
+                    this.values.computeIfAbsent(metric, key -> new ArrayList<>()).add(values[metric.ordinal()]);
+                }
+            }
+
+            bytes += Math.max(values[Metric.SIZE.ordinal()], 0);
+            sorted = null;
+        }
+
+        /**
+         * @return the number of requests
+         */
+        public int getRequests() {
+            return requests;
+        }
+
+        /**
+         * @return the total bytes of the response bodies
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Get the percentile of the metric
+         *
+         * @param metric     - Metric (REQUESTS returns the number of requests)
+         * @param percentile - Percentile (1 to 100)
+         * @return -1 if the metric has no values else the value at the percentile
+         */
+        public long getPercentile(Metric metric, int percentile) {
+            if (metric == Metric.REQUESTS) {
+                return requests;
+            }
+
+            if (sorted == null) {
+                sorted = new long[Metric.values().length][];
+            }
+
+            long[] items = sorted[metric.ordinal()];
+            if (items == null) {
+                items = values.getOrDefault(metric, new ArrayList<>()).stream().mapToLong(Long::longValue).toArray();
+                Arrays.sort(items);
+                sorted[metric.ordinal()] = items;
+            }
+
+            if (items.length == 0) {
+                return -1;
+            }
+
+            int rank = (int) Math.ceil(Math.min(Math.max(percentile, 1), 100) / 100.0 * items.length);
+            return items[rank - 1];
+        }
+
+    }
+
+    private HarMetrics() {
+        all = new Stats();
+        pages = new LinkedHashMap<>();
+        endpoints = new LinkedHashMap<>();
+    }
+
+    /**
+     * Aggregate the metrics of the Har entries
+     *
+     * @param har - Har to get the entries from
+     * @return HarMetrics
+     */
+    public static HarMetrics from(Har har) {
+        HarMetrics metrics = new HarMetrics();
+        HarLog log = (har == null) ? null : har.getLog();
+        if (log == null) {
+            return metrics;
+        }
+
+        for (HarEntry entry : log.getEntries()) {
+            if (entry == null || entry.getRequest() == null || entry.getResponse() == null) {
+                continue;
+            }
+
+            metrics.add(entry.getPageref(), getEndpoint(entry), getValues(entry));
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Aggregate the metrics of all the streamed Har entries which includes the entries that were removed from the Har
+     *
+     * @param stream - Har Stream Writer to read the entries from
+     * @return HarMetrics
+     * @throws IOException if the streamed entries could not be read
+     */
+    public static HarMetrics from(HarStreamWriter stream) throws IOException {
+        HarMetrics metrics = new HarMetrics();
+        stream.readEntries(entry -> {
+            JsonNode request = entry.path("request");
+            JsonNode response = entry.path("response");
+            if (request.isMissingNode() || response.isMissingNode()) {
+                return;
+            }
+
+            long[] values = new long[Metric.values().length];
+            JsonNode timings = entry.path("timings");
+            values[Metric.DNS.ordinal()] = timings.path("dns").asLong(-1);
+            values[Metric.CONNECT.ordinal()] = timings.path("connect").asLong(-1);
+            values[Metric.SSL.ordinal()] = timings.path("ssl").asLong(-1);
+            values[Metric.WAIT.ordinal()] = timings.path("wait").asLong(-1);
+            values[Metric.RECEIVE.ordinal()] = timings.path("receive").asLong(-1);
+            values[Metric.TIME.ordinal()] = entry.path("time").asLong(-1);
+            long contentSize = response.path("content").path("size").asLong(-1);
+            values[Metric.SIZE.ordinal()] = getSize(response.path("bodySize").asLong(-1), contentSize);
+            String endpoint = getEndpoint(request.path("method").asText(), request.path("url").asText());
+            metrics.add(entry.path("pageref").asText(null), endpoint, values);
+        });
+
+        return metrics;
+    }
+
+    private void add(String pageref, String endpoint, long[] values) {
+        all.add(values);
+        pages.computeIfAbsent(StringUtils.defaultString(pageref), key -> new Stats()).add(values);
+        endpoints.computeIfAbsent(endpoint, key -> new Stats()).add(values);
+    }
+
+    private static long[] getValues(HarEntry entry) {
+        long[] values = new long[Metric.values().length];
+        Arrays.fill(values, -1);
+        HarTimings timings = entry.getTimings();
+        if (timings != null) {
+            values[Metric.DNS.ordinal()] = timings.getDns(TimeUnit.MILLISECONDS);
+            values[Metric.CONNECT.ordinal()] = timings.getConnect(TimeUnit.MILLISECONDS);
+            values[Metric.SSL.ordinal()] = timings.getSsl(TimeUnit.MILLISECONDS);
+            values[Metric.WAIT.ordinal()] = timings.getWait(TimeUnit.MILLISECONDS);
+            values[Metric.RECEIVE.ordinal()] = timings.getReceive(TimeUnit.MILLISECONDS);
+        }
+
+        values[Metric.TIME.ordinal()] = entry.getTime();
+        HarResponse response = entry.getResponse();
+        long contentSize = (response.getContent() == null) ? -1 : response.getContent().getSize();
+        values[Metric.SIZE.ordinal()] = getSize(response.getBodySize(), contentSize);
+        return values;
+    }
+
+    private static long getSize(long bodySize, long contentSize) {
+        return (bodySize > 0) ? bodySize : contentSize;
+    }
+
+    /**
+     * Get the endpoint of the entry which is the request method, host &amp; path (without the query string)
+     *
+     * @param entry - Har Entry
+     * @return METHOD HOST/PATH
+     */
+    public static String getEndpoint(HarEntry entry) {
+        return getEndpoint(entry.getRequest().getMethod(), entry.getRequest().getUrl());
+    }
+
+    private static String getEndpoint(String method, String url) {
+        String endpoint = StringUtils.defaultString(url);
+        try {
+            URI uri = URI.create(endpoint);
+            endpoint = uri.getHost() + StringUtils.defaultString(uri.getRawPath());
+        } catch (Exception ignore) {
+            endpoint = StringUtils.substringBefore(endpoint, "?");
+        }
+
+        return method + " " + endpoint;
+    }
+
+    /**
+     * @return the metrics for all the requests
+     */
+    public Stats getAll() {
+        return all;
+    }
+
+    /**
+     * @return the metrics for each page reference
+     */
+    public Map<String, Stats> getPages() {
+        return pages;
+    }
+
+    /**
+     * @return the metrics for each endpoint
+     */
+    public Map<String, Stats> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Get a compact summary of the metrics.  Only the endpoints with the highest p95 time are included.
+     *
+     * @return summary with a line for all the requests, each page &amp; the slowest endpoints
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("Scope | Requests | Bytes");
+        for (Metric metric : Metric.values()) {
+            if (metric != Metric.REQUESTS) {
+                summary.append(" | ").append(metric).append(" p50/p95/p99");
+            }
+        }
+
+        summary.append(System.lineSeparator());
+        appendLine(summary, ALL, all);
+        for (Map.Entry<String, Stats> item : pages.entrySet()) {
+            appendLine(summary, "Page " + item.getKey(), item.getValue());
+        }
+
+        List<Map.Entry<String, Stats>> slowest = new ArrayList<>(endpoints.entrySet());
+        slowest.sort((item1, item2) -> Long.compare(
+                item2.getValue().getPercentile(Metric.TIME, 95),
+                item1.getValue().getPercentile(Metric.TIME, 95)
+        ));
+        for (Map.Entry<String, Stats> item : slowest.subList(0, Math.min(slowest.size(), MAX_ENDPOINTS_IN_SUMMARY))) {
+            appendLine(summary, item.getKey(), item.getValue());
+        }
+
+        if (slowest.size() > MAX_ENDPOINTS_IN_SUMMARY) {
+            summary.append("... ").append(slowest.size() - MAX_ENDPOINTS_IN_SUMMARY).append(" more endpoints");
+            summary.append(System.lineSeparator());
+        }
+
+        return summary.toString();
+    }
+
+    private static void appendLine(StringBuilder summary, String scope, Stats stats) {
+        summary.append(scope).append(" | ").append(stats.getRequests()).append(" | ").append(stats.getBytes());
+        for (Metric metric : Metric.values()) {
+            if (metric == Metric.REQUESTS) {
+                continue;
+            }
+
+            summary.append(" | ");
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                long value = stats.getPercentile(metric, PERCENTILES[i]);
+                summary.append((i > 0) ? "/" : "").append((value < 0) ? "-" : String.valueOf(value));
+            }
+        }
+
+        summary.append(System.lineSeparator());
+    }
+
+    /**
+     * Add the summary as an attachment to the Allure report
+     */
+    public void attach() {
+        new Attachment()
+                .withTitle("Network Metrics")
+                .withType("text/plain")
+                .withFile(getSummary().getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    /**
+     * Get the budgets that were exceeded
+     *
+     * @param budgets - Network Budgets to check
+     * @return list of the exceeded budgets with the actual values
+     */
+    public List<String> getViolations(NetworkBudget[] budgets) {
+        List<String> violations = new ArrayList<>();
+        if (budgets == null) {
+            return violations;
+        }
+
+        for (NetworkBudget budget : budgets) {
+            if (budget.getEndpoint() == null) {
+                check(violations, budget, ALL, all);
+                continue;
+            }
+
+            for (Map.Entry<String, Stats> item : endpoints.entrySet()) {
+                if (budget.getEndpoint().matcher(item.getKey()).matches()) {
+                    check(violations, budget, item.getKey(), item.getValue());
+                }
+            }
+        }
+
+        return violations;
+    }
+
+    private static void check(List<String> violations, NetworkBudget budget, String scope, Stats stats) {
+        long actual = stats.getPercentile(budget.getMetric(), budget.getPercentile());
+        if (actual > budget.getMax()) {
+            violations.add(scope + " " + budget.getMetric()
+                    + ((budget.getMetric() == Metric.REQUESTS) ? "" : " p" + budget.getPercentile())
+                    + " was " + actual + " (budget " + budget.getMax() + ")");
+        }
+    }
+
+    /**
+     * Assert that none of the budgets were exceeded
+     *
+     * @param budgets - Network Budgets to check
+     */
+    public void assertBudgets(NetworkBudget[] budgets) {
+        List<String> violations = getViolations(budgets);
+        assertThat("Network budgets exceeded:  " + violations, violations.isEmpty());
+    }
+
+}
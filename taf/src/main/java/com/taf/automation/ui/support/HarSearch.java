@@ -9,8 +9,11 @@ import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
@@ -18,9 +21,12 @@ import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.notNullValue;
 
 /**
- * This class is to simplify searching the Har logs
+ * This class is to simplify searching the Har logs<BR>
+ * <B>Note: </B> The returned indexes are positions since the Har log was started.  Use getEntry to get the entry
+ * as the oldest entries may have been removed from the Har log when streaming.
  */
 public class HarSearch {
+    private static final long MAX_WAIT_BETWEEN_CHECKS = 1000L;
     private int startIndex;
     private int stopIndex;
 
@@ -39,7 +45,7 @@ public class HarSearch {
         HarLog log = har.getLog();
         assertThat("Har Log", log, notNullValue());
 
-        setStartingSearchIndex(log.getEntries().size());
+        setStartingSearchIndex(HarIndex.getSize(log));
     }
 
     /**
@@ -120,6 +126,35 @@ public class HarSearch {
      * @return less than 0 if no match else index of matching entry
      */
     private int findEntry(String containsURL, String regex, String equalsMethod) {
+        return findEntry(containsURL, regex, equalsMethod, null, null, 0, null);
+    }
+
+    /**
+     * Find 1st Entry that matches criteria<BR>
+     * <B>Notes: </B>
+     * <OL>
+     * <LI>The start and stop index are applied</LI>
+     * <LI><B>regex</B> only used if value is not null & <B>containsURL</B> is null</LI>
+     * </OL>
+     *
+     * @param containsURL  - Entry's Request URL must contain this URL
+     * @param regex        - Entry's Request URL must match this regular expression
+     * @param equalsMethod - Entry's Request Method must equal this (or null if ignore method)
+     * @param equalsHost   - Entry's Request Host must equal this (or null if ignore host)
+     * @param equalsPath   - Entry's Request Path must equal this (or null if ignore path)
+     * @param equalsStatus - Entry's Response Status must equal this (or less than 1 if ignore status)
+     * @param scanned      - Index to continue the search from which is updated if no match (or null to search all)
+     * @return less than 0 if no match else index of matching entry
+     */
+    private int findEntry(
+            String containsURL,
+            String regex,
+            String equalsMethod,
+            String equalsHost,
+            String equalsPath,
+            int equalsStatus,
+            int[] scanned
+    ) {
         Har har = TestProperties.getInstance().getHarForThread();
         if (har == null) {
             return -2;
@@ -130,15 +165,83 @@ public class HarSearch {
             return -3;
         }
 
-        int stopEntry = (stopIndex > 0) ? stopIndex : log.getEntries().size();
-        for (int i = startIndex; i < stopEntry; i++) {
-            HarEntry entry = log.getEntries().get(i);
-            if (isMatch(entry, containsURL, regex, equalsMethod)) {
-                return i;
+        List<Integer> matches = search(log, containsURL, regex, equalsMethod, equalsHost, equalsPath, equalsStatus, scanned, true);
+        return matches.isEmpty() ? -1 : matches.get(0);
+    }
+
+    /**
+     * Search the entries (between the start and stop index) using the index of the Har log<BR>
+     * <B>Note: </B> <B>regex</B> only used if value is not null & <B>containsURL</B> is null<BR>
+     *
+     * @param log          - Har Log to search
+     * @param containsURL  - Entry's Request URL must contain this URL
+     * @param regex        - Entry's Request URL must match this regular expression
+     * @param equalsMethod - Entry's Request Method must equal this (or null if ignore method)
+     * @param equalsHost   - Entry's Request Host must equal this (or null if ignore host)
+     * @param equalsPath   - Entry's Request Path must equal this (or null if ignore path)
+     * @param equalsStatus - Entry's Response Status must equal this (or less than 1 if ignore status)
+     * @param scanned      - Index to continue the search from which is updated if no match (or null to search all)
+     * @param firstOnly    - true to stop at the 1st matching entry
+     * @return list of matching indexes (empty if no matches)
+     */
+    private List<Integer> search(
+            HarLog log,
+            String containsURL,
+            String regex,
+            String equalsMethod,
+            String equalsHost,
+            String equalsPath,
+            int equalsStatus,
+            int[] scanned,
+            boolean firstOnly
+    ) {
+        List<Integer> matches = new ArrayList<>();
+        HarIndex index = HarIndex.getInstance(log);
+        int startEntry = (scanned == null) ? startIndex : Math.max(startIndex, scanned[0]);
+        int stopEntry = (stopIndex > 0) ? Math.min(stopIndex, index.size()) : index.size();
+        Pattern pattern = (containsURL == null && regex != null) ? HarIndex.getPattern(regex) : null;
+
+        int first;
+        List<Integer> candidates = index.getCandidates(equalsMethod, equalsHost, equalsPath, equalsStatus);
+        if (candidates == null) {
+            first = startEntry;
+            candidates = new AbstractList<Integer>() {
+                @Override
+                public Integer get(int i) {
+                    return i;
+                }
+
+                @Override
+                public int size() {
+                    return stopEntry;
+                }
+            };
+        } else {
+            int position = Collections.binarySearch(candidates, startEntry);
+            first = (position < 0) ? -position - 1 : position;
+        }
+
+        for (int i = first; i < candidates.size(); i++) {
+            int entryIndex = candidates.get(i);
+            if (entryIndex >= stopEntry) {
+                break;
+            }
+
+            if (isMatch(HarIndex.getEntry(log, entryIndex), containsURL, pattern, equalsMethod)) {
+                matches.add(entryIndex);
+                if (firstOnly) {
+                    return matches;
+                }
             }
         }
 
-        return -1;
+        // The request of an entry does not change as such these entries never need to be checked again.
+        // However, the response status of the entries may still change.
+        if (scanned != null && equalsStatus < 1) {
+            scanned[0] = Math.max(scanned[0], stopEntry);
+        }
+
+        return matches;
     }
 
     /**
@@ -147,18 +250,18 @@ public class HarSearch {
      *
      * @param entry        - Entry to check
      * @param containsURL  - Entry's Request URL must contain this URL
-     * @param regex        - Entry's Request URL must match this regular expression
+     * @param regex        - Entry's Request URL must match this compiled regular expression
      * @param equalsMethod - Entry's Request Method must equal this (or null if ignore method)
      * @return true if match else false
      */
-    private boolean isMatch(HarEntry entry, String containsURL, String regex, String equalsMethod) {
+    private boolean isMatch(HarEntry entry, String containsURL, Pattern regex, String equalsMethod) {
         if (entry == null || entry.getRequest() == null) {
             return false;
         }
 
         boolean isURL;
         if (containsURL == null && regex != null) {
-            isURL = StringUtils.defaultString(entry.getRequest().getUrl()).matches(regex);
+            isURL = regex.matcher(StringUtils.defaultString(entry.getRequest().getUrl())).matches();
         } else {
             isURL = StringUtils.contains(entry.getRequest().getUrl(), containsURL);
         }
@@ -234,27 +337,70 @@ public class HarSearch {
      * @return list of matching indexes (empty if no matches)
      */
     private List<Integer> findEntries(String containsURL, String regex, String equalsMethod) {
-        List<Integer> matches = new ArrayList<>();
+        return findEntries(containsURL, regex, equalsMethod, null, null, 0);
+    }
 
+    private List<Integer> findEntries(
+            String containsURL,
+            String regex,
+            String equalsMethod,
+            String equalsHost,
+            String equalsPath,
+            int equalsStatus
+    ) {
         Har har = TestProperties.getInstance().getHarForThread();
         if (har == null) {
-            return matches;
+            return new ArrayList<>();
         }
 
         HarLog log = har.getLog();
         if (log == null) {
-            return matches;
+            return new ArrayList<>();
         }
 
-        int stopEntry = (stopIndex > 0) ? stopIndex : log.getEntries().size();
-        for (int i = startIndex; i < stopEntry; i++) {
-            HarEntry entry = log.getEntries().get(i);
-            if (isMatch(entry, containsURL, regex, equalsMethod)) {
-                matches.add(i);
-            }
-        }
+        return search(log, containsURL, regex, equalsMethod, equalsHost, equalsPath, equalsStatus, null, false);
+    }
 
-        return matches;
+    /**
+     * Find 1st Entry that matches the request &amp; response keys<BR>
+     * <B>Notes: </B> The start and stop index are applied<BR>
+     *
+     * @param equalsMethod - Entry's Request Method must equal this (or null if ignore method)
+     * @param equalsHost   - Entry's Request Host must equal this (or null if ignore host)
+     * @param equalsPath   - Entry's Request Path must equal this (or null if ignore path)
+     * @param equalsStatus - Entry's Response Status must equal this (or less than 1 if ignore status)
+     * @return less than 0 if no match else index of matching entry
+     */
+    public int findEntryByKey(String equalsMethod, String equalsHost, String equalsPath, int equalsStatus) {
+        return findEntry("", null, equalsMethod, equalsHost, equalsPath, equalsStatus, null);
+    }
+
+    /**
+     * Find All Entries that matches the request &amp; response keys<BR>
+     * <B>Notes: </B> The start and stop index are applied<BR>
+     *
+     * @param equalsMethod - Entry's Request Method must equal this (or null if ignore method)
+     * @param equalsHost   - Entry's Request Host must equal this (or null if ignore host)
+     * @param equalsPath   - Entry's Request Path must equal this (or null if ignore path)
+     * @param equalsStatus - Entry's Response Status must equal this (or less than 1 if ignore status)
+     * @return list of matching indexes (empty if no matches)
+     */
+    public List<Integer> findEntriesByKey(String equalsMethod, String equalsHost, String equalsPath, int equalsStatus) {
+        return findEntries("", null, equalsMethod, equalsHost, equalsPath, equalsStatus);
+    }
+
+    /**
+     * Wait for an entry that matches the request &amp; response keys<BR>
+     * <B>Notes: </B> The start and stop index are applied<BR>
+     *
+     * @param equalsMethod - Entry's Request Method must equal this (or null if ignore method)
+     * @param equalsHost   - Entry's Request Host must equal this (or null if ignore host)
+     * @param equalsPath   - Entry's Request Path must equal this (or null if ignore path)
+     * @param equalsStatus - Entry's Response Status must equal this (or less than 1 if ignore status)
+     * @return index of matching entry
+     */
+    public int waitForEntryByKey(String equalsMethod, String equalsHost, String equalsPath, int equalsStatus) {
+        return waitForEntry("", null, equalsMethod, equalsHost, equalsPath, equalsStatus);
     }
 
     /**
@@ -317,11 +463,39 @@ public class HarSearch {
      * @return index of matching entry
      */
     private int waitForEntry(String containsURL, String regex, String equalsMethod) {
-        return Failsafe.with(Utils.getPollingRetryPolicy()).get(() -> findEntryThatMustExist(containsURL, regex, equalsMethod));
+        return waitForEntry(containsURL, regex, equalsMethod, null, null, 0);
     }
 
-    private int findEntryThatMustExist(String containsURL, String regex, String equalsMethod) {
-        int index = findEntry(containsURL, regex, equalsMethod);
+    private int waitForEntry(
+            String containsURL,
+            String regex,
+            String equalsMethod,
+            String equalsHost,
+            String equalsPath,
+            int equalsStatus
+    ) {
+        // Each poll only needs to check the entries that were added since the previous poll
+        int[] scanned = new int[]{startIndex};
+        HarEntryNotifier notifier = TestProperties.getInstance().getHarEntryNotifierForThread();
+        if (notifier == null) {
+            return Failsafe.with(Utils.getPollingRetryPolicy()).get(() -> {
+                int index = findEntry(containsURL, regex, equalsMethod, equalsHost, equalsPath, equalsStatus, scanned);
+                assertThat("Could not find any matching entry", index, greaterThanOrEqualTo(0));
+                return index;
+            });
+        }
+
+        // Check again as soon as the proxy completes another entry.  The max wait between checks ensures entries
+        // that were not completed through the proxy filters are still found.
+        long end = System.currentTimeMillis() + TestProperties.getInstance().getElementTimeout() * 1000L;
+        long seen = notifier.getCompleted();
+        int index = findEntry(containsURL, regex, equalsMethod, equalsHost, equalsPath, equalsStatus, scanned);
+        while (index < 0 && System.currentTimeMillis() < end) {
+            long remaining = end - System.currentTimeMillis();
+            seen = notifier.await(seen, Math.min(remaining, MAX_WAIT_BETWEEN_CHECKS));
+            index = findEntry(containsURL, regex, equalsMethod, equalsHost, equalsPath, equalsStatus, scanned);
+        }
+
         assertThat("Could not find any matching entry", index, greaterThanOrEqualTo(0));
         return index;
     }
@@ -340,9 +514,11 @@ public class HarSearch {
         assertThat("Har Log", log, notNullValue());
         assertThat("Har Entries", log.getEntries(), notNullValue());
         assertThat("Index", index, greaterThanOrEqualTo(0));
-        assertThat("Index", index, lessThan(log.getEntries().size()));
+        assertThat("Index", index, lessThan(HarIndex.getSize(log)));
 
-        return log.getEntries().get(index);
+        HarEntry entry = HarIndex.getEntry(log, index);
+        assertThat("Entry (" + index + ") was removed from the Har Log", entry, notNullValue());
+        return entry;
     }
 
     /**
@@ -368,10 +544,12 @@ public class HarSearch {
         assertThat("Har Log", log, notNullValue());
         assertThat("Har Entries", log.getEntries(), notNullValue());
         assertThat("Min Index", minIndex, greaterThanOrEqualTo(0));
-        assertThat("Max Index", maxIndex, lessThan(log.getEntries().size()));
+        assertThat("Max Index", maxIndex, lessThan(HarIndex.getSize(log)));
 
         for (int index : entries) {
-            all.add(log.getEntries().get(index));
+            HarEntry entry = HarIndex.getEntry(log, index);
+            assertThat("Entry (" + index + ") was removed from the Har Log", entry, notNullValue());
+            all.add(entry);
         }
 
         return all;
@@ -0,0 +1,347 @@
+package com.taf.automation.ui.support;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+import net.lightbody.bmp.BrowserMobProxy;
+import net.lightbody.bmp.core.har.Har;
+import net.lightbody.bmp.core.har.HarEntry;
+import net.lightbody.bmp.core.har.HarLog;
+import org.apache.commons.lang3.StringUtils;
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersAdapter;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Streams the completed Har entries of a proxy to an append-only file (one JSON entry per line) such that the
+ * memory used by the Har is bounded.<BR>
+ * <B>Notes: </B>
+ * <OL>
+ * <LI>Only the most recent completed entries (ring size) are kept in the Har.  The older entries are removed from
+ * the Har after they are streamed.  The HarSearch indexes do not change (see HarIndex.getEntry).</LI>
+ * <LI>Response bodies larger than the max body size are truncated &amp; bodies with a content type that does not
+ * match the body content types are removed.  This only applies to the file as the entries in the Har are not
+ * modified.</LI>
+ * <LI>The Har file is written from the streamed entries without loading them into memory.  The entries that are
+ * not completed yet are only added to the output (i.e. not streamed) such that they are streamed once completed.</LI>
+ * <LI>The streamed file is deleted when the writer is reset or closed</LI>
+ * </OL>
+ */
+public class HarStreamWriter implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(HarStreamWriter.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private final BrowserMobProxy proxy;
+    private final File folder;
+    private final int ringSize;
+    private final int maxBodySize;
+    private final Pattern bodyContentTypes;
+    private final HarEntryTracker tracker;
+    private final Set<HarEntry> written;
+    private final Deque<HarEntry> ring;
+    private File file;
+    private BufferedWriter writer;
+
+    private HarStreamWriter(BrowserMobProxy proxy, File folder, int ringSize, int maxBodySize, String bodyContentTypes) throws IOException {
+        this.proxy = proxy;
+        this.folder = folder;
+        this.ringSize = Math.max(ringSize, 0);
+        this.maxBodySize = maxBodySize;
+        this.bodyContentTypes = Pattern.compile(StringUtils.defaultIfBlank(bodyContentTypes, ".*"), Pattern.CASE_INSENSITIVE);
+        tracker = new HarEntryTracker();
+        written = Collections.newSetFromMap(new IdentityHashMap<>());
+        ring = new ArrayDeque<>();
+        open();
+    }
+
+    private void open() throws IOException {
+        file = new File(folder, "har-stream-" + Thread.currentThread().getId() + "-" + System.currentTimeMillis() + ".jsonl");
+        writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Stream the completed entries of the proxy's Har to a file
+     *
+     * @param proxy - Proxy to add the filter to
+     * @param props - Test Properties with the streaming settings
+     * @return HarStreamWriter
+     */
+    @SuppressWarnings("squid:S00112")
+    public static HarStreamWriter attach(BrowserMobProxy proxy, TestProperties props) {
+        HarStreamWriter stream;
+        try {
+            File folder = new File(StringUtils.defaultIfBlank(props.getHarStreamFolder(), System.getProperty("java.io.tmpdir")));
+            folder.mkdirs();
+            stream = new HarStreamWriter(
+                    proxy,
+                    folder,
+                    props.getHarStreamRingSize(),
+                    props.getHarStreamMaxBodySize(),
+                    props.getHarStreamBodyContentTypes()
+            );
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not create Har stream file due to error:  " + ex.getMessage(), ex);
+        }
+
+        proxy.addLastHttpFilterFactory(new HttpFiltersSourceAdapter() {
+            @Override
+            public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+                return new HttpFiltersAdapter(originalRequest, ctx) {
+                    private HarEntry entry;
+
+                    @Override
+                    public HttpResponse clientToProxyRequest(HttpObject httpObject) {
+                        if (httpObject instanceof HttpRequest) {
+                            entry = stream.claim((HttpRequest) httpObject);
+                        }
+
+                        return null;
+                    }
+
+                    @Override
+                    public HttpObject serverToProxyResponse(HttpObject httpObject) {
+                        if (httpObject instanceof LastHttpContent) {
+                            stream.write(entry);
+                        }
+
+                        return httpObject;
+                    }
+
+                    @Override
+                    public void serverToProxyResponseTimedOut() {
+                        stream.write(entry);
+                    }
+
+                    @Override
+                    public void proxyToServerConnectionFailed() {
+                        stream.write(entry);
+                    }
+                };
+            }
+        });
+
+        return stream;
+    }
+
+    /**
+     * @return the file the entries are streamed to
+     */
+    public synchronized File getFile() {
+        return file;
+    }
+
+    private HarEntry claim(HttpRequest request) {
+        Har har = proxy.getHar();
+        return tracker.claim((har == null) ? null : har.getLog(), request.getMethod().name(), request.getUri());
+    }
+
+    /**
+     * Append the completed entry to the file &amp; remove the entries that are no longer in the ring from the Har
+     *
+     * @param entry - Completed entry to write
+     */
+    private synchronized void write(HarEntry entry) {
+        if (entry == null || writer == null || !written.add(entry)) {
+            return;
+        }
+
+        try {
+            writer.write(toJson(entry));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException ex) {
+            LOG.warn("Could not stream Har entry (" + file + "):  " + ex.getMessage());
+        }
+
+        ring.addLast(entry);
+        Har har = proxy.getHar();
+        while (ring.size() > ringSize) {
+            HarEntry removed = ring.removeFirst();
+            written.remove(removed);
+            if (har != null && har.getLog() != null) {
+                HarIndex.removeEntry(har.getLog(), removed);
+            }
+        }
+    }
+
+    /**
+     * Get the JSON of the entry with the response body truncated or removed as necessary.  The entry is not modified.
+     *
+     * @param entry - Entry to convert
+     * @return JSON of the entry
+     * @throws IOException if the entry could not be converted
+     */
+    private String toJson(HarEntry entry) throws IOException {
+        ObjectNode node = MAPPER.valueToTree(entry);
+        JsonNode content = node.path("response").path("content");
+        if (content instanceof ObjectNode && content.hasNonNull("text")) {
+            ObjectNode body = (ObjectNode) content;
+            String text = body.get("text").asText();
+            if (!bodyContentTypes.matcher(body.path("mimeType").asText("")).matches()) {
+                body.remove("text");
+                body.put("comment", "Body not captured for content type");
+            } else if (maxBodySize > 0 && text.length() > maxBodySize) {
+                body.put("text", text.substring(0, maxBodySize));
+                body.put("comment", "Body truncated to " + maxBodySize + " characters");
+            }
+        }
+
+        return MAPPER.writeValueAsString(node);
+    }
+
+    /**
+     * Write the Har file using the streamed entries followed by the entries that were not streamed yet
+     *
+     * @param filename - File to write to
+     * @throws IOException if the Har file could not be written
+     */
+    public synchronized void writeHar(String filename) throws IOException {
+        Har har = proxy.getHar();
+        HarLog log = (har == null) ? null : har.getLog();
+        List<HarEntry> pending = getPending(log);
+        try (OutputStream out = new FileOutputStream(filename);
+             JsonGenerator generator = MAPPER.getFactory().createGenerator(out, JsonEncoding.UTF8);
+             BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("log");
+            if (log != null) {
+                generator.writeStringField("version", log.getVersion());
+                generator.writeObjectField("creator", log.getCreator());
+                generator.writeObjectField("browser", log.getBrowser());
+                generator.writeObjectField("pages", log.getPages());
+                generator.writeStringField("comment", log.getComment());
+            }
+
+            generator.writeArrayFieldStart("entries");
+            String line;
+            while ((line = reader.readLine()) != null) {
+                generator.writeRawValue(line);
+            }
+
+            for (HarEntry entry : pending) {
+                generator.writeRawValue(toJson(entry));
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Get the entries of the Har that were not streamed yet (i.e. not completed or not claimed.)  These entries are
+     * not streamed as they may still be updated.
+     *
+     * @param log - Har Log
+     * @return entries of the Har that were not streamed yet
+     * @throws IOException if the streamed entries could not be flushed
+     */
+    private List<HarEntry> getPending(HarLog log) throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+
+        List<HarEntry> pending = new ArrayList<>();
+        if (log != null) {
+            for (HarEntry entry : log.getEntries()) {
+                if (entry != null && !written.contains(entry)) {
+                    pending.add(entry);
+                }
+            }
+        }
+
+        return pending;
+    }
+
+    /**
+     * Read all the streamed entries without loading them into memory at the same time followed by the entries that
+     * were not streamed yet
+     *
+     * @param consumer - Consumer of each entry (JSON)
+     * @throws IOException if the streamed entries could not be read
+     */
+    public synchronized void readEntries(Consumer<JsonNode> consumer) throws IOException {
+        Har har = proxy.getHar();
+        List<HarEntry> pending = getPending((har == null) ? null : har.getLog());
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                consumer.accept(MAPPER.readTree(line));
+            }
+        }
+
+        for (HarEntry entry : pending) {
+            consumer.accept(MAPPER.readTree(toJson(entry)));
+        }
+    }
+
+    /**
+     * Start streaming the entries to a new file such as when a new Har is started on a re-used proxy.<BR>
+     * <B>Note: </B> The previous file is deleted &amp; any entries of the previous Har that were not completed are
+     * not streamed.
+     */
+    @SuppressWarnings("squid:S00112")
+    public synchronized void reset() {
+        close();
+        try {
+            open();
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not create Har stream file due to error:  " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Stop streaming entries &amp; delete the streamed file
+     */
+    @Override
+    public synchronized void close() {
+        tracker.reset();
+        written.clear();
+        ring.clear();
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.close();
+        } catch (IOException ignore) {
+            //
+        }
+
+        writer = null;
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException ex) {
+            LOG.warn("Could not delete Har stream file (" + file + "):  " + ex.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.taf.automation.ui.support;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Index of the rows of a table snapshot such that looking up a row is a hash lookup instead of comparing every
+ * row.<BR>
+ * The indexes are built on first use &amp; kept for the snapshot:
+ * <UL>
+ * <LI>Row key (the value substituted for the row key in the locators)</LI>
+ * <LI>Row identifier (getRowIdentifier) which requires the rows to be bound.  The rows are indexed incrementally.</LI>
+ * <LI>Any combination of columns using the cell values (only available if the rows were extracted in bulk)</LI>
+ * <LI>Any named value extracted from the rows</LI>
+ * </UL>
+ * <B>Note: </B> The index is only valid for the snapshot of the rows it was created with.  The GenericTable creates
+ * a new index when the table rows are reset.
+ *
+ * @param <T> - Row type
+ */
+public class TableRowIndex<T extends GenericRow> {
+    private final List<T> rows;
+    private Map<String, T> byKey;
+    private Map<String, List<T>> byIdentifier;
+    private int identified;
+    private Map<List<Integer>, Map<List<String>, List<T>>> byColumns;
+    private Map<String, Map<String, List<T>>> byName;
+
+    public TableRowIndex(List<T> rows) {
+        this.rows = rows;
+        byIdentifier = new HashMap<>();
+        identified = 0;
+        byColumns = new HashMap<>();
+        byName = new HashMap<>();
+    }
+
+    /**
+     * @param snapshot - Rows of the table
+     * @return true if the index is for the specified rows
+     */
+    public boolean isFor(List<T> snapshot) {
+        return rows == snapshot;
+    }
+
+    /**
+     * Get the row using the row key
+     *
+     * @param key - Row Key value
+     * @return null if no row has the key else the row
+     */
+    public T getByKey(String key) {
+        if (byKey == null) {
+            byKey = new HashMap<>();
+            for (T row : rows) {
+                byKey.putIfAbsent(row.getRowKeyValue(), row);
+            }
+        }
+
+        return byKey.get(key);
+    }
+
+    /**
+     * Get the rows using the row keys
+     *
+     * @param keys - Row Key values
+     * @return the rows in the order of the keys (keys without a row are skipped)
+     */
+    public List<T> getByKeys(Collection<String> keys) {
+        List<T> matches = new ArrayList<>();
+        for (String key : keys) {
+            T row = getByKey(key);
+            if (row != null) {
+                matches.add(row);
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * Get the first row with the row identifier.  The rows are only bound &amp; indexed as far as necessary to find
+     * the row such that the first lookup does not bind all the rows.<BR>
+     * <B>Note: </B> The row identifiers are read when the rows are indexed.  The caller needs to verify the row if the
+     * identifiers may have changed since.
+     *
+     * @param identifier - Row identifier (exact match)
+     * @return null if no row has the row identifier else the first row with the row identifier
+     */
+    public T getByIdentifier(String identifier) {
+        List<T> matches = byIdentifier.get(identifier);
+        if (matches != null) {
+            return matches.get(0);
+        }
+
+        while (identified < rows.size()) {
+            T row = rows.get(identified++);
+            row.bind();
+            String value = StringUtils.defaultString(row.getRowIdentifier());
+            append(byIdentifier, value, row);
+            if (value.equals(identifier)) {
+                return row;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the rows that match the cell values for the columns.  Null values are ignored such that partial matching
+     * on the specified columns is possible.<BR>
+     * <B>Notes: </B>
+     * <OL>
+     * <LI>An index is built for each combination of columns used</LI>
+     * <LI>Assertion failure if a row does not have a cell value for the columns such as when the rows were not
+     * extracted in bulk</LI>
+     * </OL>
+     *
+     * @param criteria - Map of the column index (starting at 0) to the cell value
+     * @return rows with all the cell values
+     */
+    public List<T> getByColumns(Map<Integer, String> criteria) {
+        Map<Integer, String> sorted = new TreeMap<>();
+        for (Map.Entry<Integer, String> item : criteria.entrySet()) {
+            if (item.getValue() != null) {
+                sorted.put(item.getKey(), item.getValue());
+            }
+        }
+
+        if (sorted.isEmpty()) {
+            return Collections.unmodifiableList(rows);
+        }
+
+        List<Integer> columns = new ArrayList<>(sorted.keySet());
+        Map<List<String>, List<T>> index = byColumns.computeIfAbsent(columns, this::indexColumns);
+        return index.getOrDefault(new ArrayList<>(sorted.values()), Collections.emptyList());
+    }
+
+    private Map<List<String>, List<T>> indexColumns(List<Integer> columns) {
+        Map<List<String>, List<T>> index = new HashMap<>();
+        for (T row : rows) {
+            List<String> values = new ArrayList<>();
+            for (Integer column : columns) {
+                String value = row.getCell(column);
+                assertThat("Row (" + row.getRowKeyValue() + ") missing cell value for column " + column, value, notNullValue());
+                values.add(value);
+            }
+
+            append(index, values, row);
+        }
+
+        return index;
+    }
+
+    /**
+     * Get the rows using a named index of the values extracted from the rows.  The index is built on first use of
+     * the name which binds all the rows.  This allows indexing on values that are not available from the cell values.
+     *
+     * @param name      - Name of the index
+     * @param extractor - Function to extract the value from the row (only used to build the index)
+     * @param value     - Value to find
+     * @return rows with the value
+     */
+    public List<T> getBy(String name, Function<T, String> extractor, String value) {
+        Map<String, List<T>> index = byName.computeIfAbsent(name, key -> {
+            Map<String, List<T>> values = new LinkedHashMap<>();
+            for (T row : rows) {
+                row.bind();
+                append(values, extractor.apply(row), row);
+            }
+
+            return values;
+        });
+
+        return index.getOrDefault(value, Collections.emptyList());
+    }
+
+    private static <K, V> void append(Map<K, List<V>> map, K key, V value) {
+        map.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+    }
+
+}
@@ -1,17 +1,9 @@
 package com.taf.automation.ui.support;
 
-import com.taf.automation.ui.support.converters.Credentials;
-import com.taf.automation.ui.support.converters.CreditCard;
-import com.taf.automation.ui.support.converters.DynamicCredentials;
-import com.taf.automation.ui.support.util.CryptoUtils;
-import org.apache.commons.lang3.ObjectUtils;
-import org.apache.commons.lang3.time.DateUtils;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.WebDriver;
 import ui.auto.core.context.PageComponentContext;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
 import java.util.concurrent.TimeUnit;
 
 public class TestContext extends PageComponentContext {
@@ -30,37 +22,7 @@ public class TestContext extends PageComponentContext {
     }
 
     private void setDefaultAliases() {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        Date today = new Date();
-        setAlias("today", sdf.format(today));
-        int days = 10;
-        for (int i = 1; i <= (days); i++) {
-            setAlias("today_plus_" + i, sdf.format(DateUtils.addDays(today, i)));
-            setAlias("today_minus_" + i, sdf.format(DateUtils.addDays(today, -i)));
-        }
-
-        Credentials[] credentials = ObjectUtils.defaultIfNull(props.getAppCredentials(), new Credentials[0]);
-        for (int i = 0; i < credentials.length; i++) {
-            setAlias("email_" + (i + 1), credentials[i].getEmailOrName());
-            setAlias("password_" + (i + 1), credentials[i].getPassword());
-        }
-
-        CreditCard[] creditCards = ObjectUtils.defaultIfNull(props.getCreditCards(), new CreditCard[0]);
-        for (int i = 0; i < creditCards.length; i++) {
-            String num = (i > 0) ? "_" + i + 1 : "";
-            setAlias("card_number" + num, creditCards[i].getNumber());
-            setAlias("card_month" + num, creditCards[i].getMonth());
-            setAlias("card_year" + num, creditCards[i].getYear());
-            setAlias("card_code" + num, creditCards[i].getCode());
-            setAlias("card_name" + num, creditCards[i].getCardHolder());
-        }
-
-        DynamicCredentials[] dynamicCredentials = ObjectUtils.defaultIfNull(props.getDynamicCredentials(), new DynamicCredentials[0]);
-        for (DynamicCredentials item : dynamicCredentials) {
-            setAlias("user_" + item.getRole(), item.getUser());
-            String password = (item.isDecrypt()) ? new CryptoUtils().decrypt(item.getPassword()) : item.getPassword();
-            setAlias("password_" + item.getRole(), password);
-        }
+        getGlobalAliases().putAll(DefaultAliases.get(props));
     }
 
     public TestProperties getProps() {
@@ -72,7 +34,14 @@ public class TestContext extends PageComponentContext {
     }
 
     public void init() {
-        driver = props.getBrowserType().getNewWebDriver(props);
+        if (WebDriverPool.isPoolable(props)) {
+            // Any existing driver is no longer usable as such it is not returned to the pool
+            WebDriverPool.getInstance().discard(driver);
+            driver = WebDriverPool.getInstance().getWebDriver(props);
+        } else {
+            driver = WebDriverProvisioner.getInstance().getWebDriver(props);
+        }
+
         if (props.getBrowserType().isAppiumDriver()) {
             // Appium (as of 1.14.0) does not support setting timeouts or window size
             return;
@@ -94,6 +63,19 @@ public class TestContext extends PageComponentContext {
         }
     }
 
+    /**
+     * Quit the driver or release it back to the pool if it was from the WebDriver pool
+     */
+    public void quit() {
+        if (driver == null) {
+            return;
+        }
+
+        if (!WebDriverPool.isPoolable(props) || !WebDriverPool.getInstance().release(driver)) {
+            driver.quit();
+        }
+    }
+
     public String getAlias(String key) {
         return getGlobalAliases().get(key);
     }
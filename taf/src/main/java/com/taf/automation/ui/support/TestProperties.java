@@ -9,10 +9,13 @@ import com.taf.automation.ui.support.converters.DynamicCredentials;
 import com.taf.automation.ui.support.converters.DynamicCredentialsPropertyConverter;
 import com.taf.automation.ui.support.converters.EnumPropertyConverter;
 import com.taf.automation.ui.support.converters.EnvironmentPropertyConverter;
+import com.taf.automation.ui.support.converters.HarCaptureRule;
+import com.taf.automation.ui.support.converters.HarCaptureRulePropertyConverter;
+import com.taf.automation.ui.support.converters.NetworkBudget;
+import com.taf.automation.ui.support.converters.NetworkBudgetPropertyConverter;
 import com.taf.automation.ui.support.util.CryptoUtils;
 import com.taf.automation.ui.support.util.URLUtils;
 import net.lightbody.bmp.BrowserMobProxy;
-import net.lightbody.bmp.BrowserMobProxyServer;
 import net.lightbody.bmp.client.ClientUtil;
 import net.lightbody.bmp.core.har.Har;
 import net.lightbody.bmp.proxy.CaptureType;
@@ -36,9 +39,9 @@ import java.io.FileOutputStream;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -205,9 +208,42 @@ public class TestProperties {
     @Property("db.query.timeout")
     private int dbQueryTimeout = 120; // Connection & Socket Timeout in seconds. If -1 no timeout.
 
+    @Property("db.pool")
+    private boolean dbPool = false; // Use a connection pool instead of a new connection for each query
+
+    @Property("db.pool.min.idle")
+    private int dbPoolMinIdle = 1;
+
+    @Property("db.pool.max.size")
+    private int dbPoolMaxSize = 5;
+
+    @Property("db.pool.validation.query")
+    private String dbPoolValidationQuery; // If not set, then the JDBC4 isValid check is used
+
+    @Property("db.pool.idle.timeout")
+    private int dbPoolIdleTimeout = 600000; // Idle connections above the minimum are closed after this time in milliseconds
+
+    @Property("db.pool.leak.detection.threshold")
+    private int dbPoolLeakDetectionThreshold = 0; // Log connections not returned within this time in milliseconds. If 0 disabled.
+
     @Property("api.timeout")
     private int apiTimeout = 10000; // Connection & Socket Timeout in milliseconds. If 0 no timeout.
 
+    @Property("api.connection.pool")
+    private boolean apiConnectionPool = false; // Share pooled connections between the API clients
+
+    @Property("api.pool.max.total")
+    private int apiPoolMaxTotal = 50;
+
+    @Property("api.pool.max.per.route")
+    private int apiPoolMaxPerRoute = 10;
+
+    @Property("api.pool.idle.timeout")
+    private int apiPoolIdleTimeout = 30000; // Idle connections are closed after this time in milliseconds
+
+    @Property("api.pool.validate.after.inactivity")
+    private int apiPoolValidateAfterInactivity = 2000; // Connections idle longer (in milliseconds) are checked before reuse
+
     @Property("ssh.host")
     @HideInReport
     private String sshHost;
@@ -258,6 +294,48 @@ public class TestProperties {
     @Property("webdriver.screenshot.view.port.only")
     private boolean viewPortOnly = true;
 
+    @Property("allure.attachment.async")
+    private boolean attachmentAsync = false;
+
+    @Property("allure.attachment.queue.size")
+    private int attachmentQueueSize = 100;
+
+    @Property("allure.attachment.compress.threshold")
+    private int attachmentCompressThreshold = 0; // Compress text attachments of at least this size in bytes. If 0 disabled.
+
+    @Property("conditional.batch.evaluation")
+    private boolean conditionalBatchEvaluation = false;
+
+    @Property("conditional.event.driven")
+    private boolean conditionalEventDriven = false;
+
+    @Property("conditional.adaptive.polling")
+    private boolean conditionalAdaptivePolling = false;
+
+    @Property("component.handle.cache")
+    private boolean componentHandleCache = false;
+
+    @Property("webdriver.pool")
+    private boolean webDriverPool = false;
+
+    @Property("webdriver.pool.max.reuse")
+    private int webDriverPoolMaxReuse = 50; // Number of tests a session can be used for before it is quit
+
+    @Property("webdriver.pool.max.idle")
+    private int webDriverPoolMaxIdle = 5; // Max idle sessions kept per browser configuration
+
+    @Property("webdriver.pool.idle.timeout")
+    private int webDriverPoolIdleTimeout = 60000; // Idle sessions older than this (milliseconds) are quit
+
+    @Property("webdriver.pool.health.timeout")
+    private int webDriverPoolHealthTimeout = 10000; // Max time (milliseconds) to check or reset a session
+
+    @Property("webdriver.prewarm")
+    private boolean webDriverPrewarm = false;
+
+    @Property("webdriver.prewarm.count")
+    private int webDriverPrewarmCount = 0; // Drivers to create at suite start.  If 0, then the suite thread count.
+
     // May need edit configuration for the working directory when running from IDE.
     // Use same working directory as RunTests.
     @Property("source.js")
@@ -295,6 +373,9 @@ public class TestProperties {
     @HideInReport
     private String automationKey;
 
+    @Property("crypto.decrypt.cache")
+    private boolean cryptoDecryptCache = false; // Memoize the decryption of the same encrypted value
+
     @Property("consul.host")
     @HideInReport
     private String consulHost = "consul001";
@@ -309,11 +390,58 @@ public class TestProperties {
     @Property("browser.mob.proxy.write.file")
     private boolean writeBrowserMobProxyLogToFile = false;
 
+    @Use(HarCaptureRulePropertyConverter.class)
+    @Property("browser.mob.proxy.capture.rules")
+    private HarCaptureRule[] harCaptureRules;
+
+    @Use(EnumPropertyConverter.class)
+    @Property("browser.mob.proxy.capture.default")
+    private HarCaptureRule.Capture harCaptureDefault = HarCaptureRule.Capture.BODY;
+
+    @Property("browser.mob.proxy.reuse")
+    private boolean reuseBrowserMobProxy = false;
+
+    @Property("browser.mob.proxy.metrics")
+    private boolean harMetrics = false;
+
+    @Use(NetworkBudgetPropertyConverter.class)
+    @Property("browser.mob.proxy.metrics.budgets")
+    private NetworkBudget[] networkBudgets;
+
+    @Property("browser.mob.proxy.stream")
+    private boolean harStream = false;
+
+    @Property("browser.mob.proxy.stream.ring.size")
+    private int harStreamRingSize = 200;
+
+    @Property("browser.mob.proxy.stream.max.body.size")
+    private int harStreamMaxBodySize = 1048576;
+
+    @Property("browser.mob.proxy.stream.body.content.types")
+    private String harStreamBodyContentTypes = ".*";
+
+    @Property("browser.mob.proxy.stream.folder")
+    private String harStreamFolder;
+
     /**
      * Stores the Browser Mob Proxy for each thread
      */
-    @SuppressWarnings("squid:S1149")
-    private Map<Long, BrowserMobProxy> browserMobProxies = new Hashtable<>();
+    private Map<Long, BrowserMobProxy> browserMobProxies = new ConcurrentHashMap<>();
+
+    /**
+     * Stores the notifier of the completed Har entries for each thread's Browser Mob Proxy
+     */
+    private Map<Long, HarEntryNotifier> harEntryNotifiers = new ConcurrentHashMap<>();
+
+    /**
+     * Stores the streaming of the Har entries to disk for each thread's Browser Mob Proxy
+     */
+    private Map<Long, HarStreamWriter> harStreamWriters = new ConcurrentHashMap<>();
+
+    /**
+     * Stores the Har capture rules filter for each thread's Browser Mob Proxy
+     */
+    private Map<Long, HarCaptureRules> harCaptureRulesFilters = new ConcurrentHashMap<>();
 
     /**
      * For better performance, cache the users.  Only use the getter to access
@@ -746,10 +874,54 @@ public class TestProperties {
         return dbQueryTimeout;
     }
 
+    public boolean isDbPool() {
+        return dbPool;
+    }
+
+    public int getDbPoolMinIdle() {
+        return dbPoolMinIdle;
+    }
+
+    public int getDbPoolMaxSize() {
+        return dbPoolMaxSize;
+    }
+
+    public String getDbPoolValidationQuery() {
+        return dbPoolValidationQuery;
+    }
+
+    public int getDbPoolIdleTimeout() {
+        return dbPoolIdleTimeout;
+    }
+
+    public int getDbPoolLeakDetectionThreshold() {
+        return dbPoolLeakDetectionThreshold;
+    }
+
     public int getApiTimeout() {
         return apiTimeout;
     }
 
+    public boolean isApiConnectionPool() {
+        return apiConnectionPool;
+    }
+
+    public int getApiPoolMaxTotal() {
+        return apiPoolMaxTotal;
+    }
+
+    public int getApiPoolMaxPerRoute() {
+        return apiPoolMaxPerRoute;
+    }
+
+    public int getApiPoolIdleTimeout() {
+        return apiPoolIdleTimeout;
+    }
+
+    public int getApiPoolValidateAfterInactivity() {
+        return apiPoolValidateAfterInactivity;
+    }
+
     public String getSshHost() {
         if (isProdEnv()) {
             return sshHostProd;
@@ -820,6 +992,62 @@ public class TestProperties {
         return viewPortOnly;
     }
 
+    public boolean isAttachmentAsync() {
+        return attachmentAsync;
+    }
+
+    public int getAttachmentQueueSize() {
+        return attachmentQueueSize;
+    }
+
+    public int getAttachmentCompressThreshold() {
+        return attachmentCompressThreshold;
+    }
+
+    public boolean isConditionalBatchEvaluation() {
+        return conditionalBatchEvaluation;
+    }
+
+    public boolean isConditionalEventDriven() {
+        return conditionalEventDriven;
+    }
+
+    public boolean isConditionalAdaptivePolling() {
+        return conditionalAdaptivePolling;
+    }
+
+    public boolean isComponentHandleCache() {
+        return componentHandleCache;
+    }
+
+    public boolean isWebDriverPool() {
+        return webDriverPool;
+    }
+
+    public int getWebDriverPoolMaxReuse() {
+        return webDriverPoolMaxReuse;
+    }
+
+    public int getWebDriverPoolMaxIdle() {
+        return webDriverPoolMaxIdle;
+    }
+
+    public int getWebDriverPoolIdleTimeout() {
+        return webDriverPoolIdleTimeout;
+    }
+
+    public int getWebDriverPoolHealthTimeout() {
+        return webDriverPoolHealthTimeout;
+    }
+
+    public boolean isWebDriverPrewarm() {
+        return webDriverPrewarm;
+    }
+
+    public int getWebDriverPrewarmCount() {
+        return webDriverPrewarmCount;
+    }
+
     /**
      * Get the Source (folder) for JavaScript files
      *
@@ -875,6 +1103,10 @@ public class TestProperties {
         return automationKey;
     }
 
+    public boolean isCryptoDecryptCache() {
+        return cryptoDecryptCache;
+    }
+
     public String getConsulHost() {
         return consulHost;
     }
@@ -889,11 +1121,77 @@ public class TestProperties {
 
     private BrowserMobProxy getBrowserMobProxyForThread() {
         Long threadId = Thread.currentThread().getId();
-        return browserMobProxies.computeIfAbsent(threadId, k -> new BrowserMobProxyServer());
+        return browserMobProxies.computeIfAbsent(threadId, k -> new HarCaptureProxyServer());
     }
 
     private void removeBrowserMobProxyForThread() {
         browserMobProxies.remove(Thread.currentThread().getId());
+        harEntryNotifiers.remove(Thread.currentThread().getId());
+        harCaptureRulesFilters.remove(Thread.currentThread().getId());
+        HarStreamWriter stream = harStreamWriters.remove(Thread.currentThread().getId());
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * @return null if the Har entries are not streamed for the thread else the Har Stream Writer
+     */
+    public HarStreamWriter getHarStreamWriterForThread() {
+        return harStreamWriters.get(Thread.currentThread().getId());
+    }
+
+    /**
+     * @return null if the browser mob proxy is not started for the thread else the notifier of completed Har entries
+     */
+    public HarEntryNotifier getHarEntryNotifierForThread() {
+        return harEntryNotifiers.get(Thread.currentThread().getId());
+    }
+
+    public boolean isReuseBrowserMobProxy() {
+        return reuseBrowserMobProxy;
+    }
+
+    /**
+     * @return null if no Har capture rules (capture the request content for all requests) else the Har capture rules
+     */
+    public HarCaptureRule[] getHarCaptureRules() {
+        return harCaptureRules;
+    }
+
+    public HarCaptureRule.Capture getHarCaptureDefault() {
+        return harCaptureDefault;
+    }
+
+    public boolean isHarMetrics() {
+        return harMetrics;
+    }
+
+    /**
+     * @return null if no network budgets else the network budgets that the tests must not exceed
+     */
+    public NetworkBudget[] getNetworkBudgets() {
+        return networkBudgets;
+    }
+
+    public boolean isHarStream() {
+        return harStream;
+    }
+
+    public int getHarStreamRingSize() {
+        return harStreamRingSize;
+    }
+
+    public int getHarStreamMaxBodySize() {
+        return harStreamMaxBodySize;
+    }
+
+    public String getHarStreamBodyContentTypes() {
+        return harStreamBodyContentTypes;
+    }
+
+    public String getHarStreamFolder() {
+        return harStreamFolder;
     }
 
     public Proxy getSeleniumProxyForThread() {
@@ -901,23 +1199,72 @@ public class TestProperties {
     }
 
     /**
-     * Start the browser mob proxy if necessary for the thread
+     * Start the browser mob proxy if necessary for the thread.<BR>
+     * <B>Note: </B> If the proxy is re-used &amp; already started, then only a new Har is started if necessary
      */
     public void startBrowserMobProxyForThread() {
-        if (isBrowserMobProxy() && !getBrowserMobProxyForThread().isStarted()) {
+        if (isBrowserMobProxy() && isReuseBrowserMobProxy() && getBrowserMobProxyForThread().isStarted()) {
+            BrowserMobProxy browserMobProxy = getBrowserMobProxyForThread();
+            if (browserMobProxy.getHar() == null) {
+                browserMobProxy.newHar("Thread-" + Thread.currentThread().getId() + "-" + System.currentTimeMillis());
+            }
+        } else if (isBrowserMobProxy() && !getBrowserMobProxyForThread().isStarted()) {
             BrowserMobProxy browserMobProxy = getBrowserMobProxyForThread();
             browserMobProxy.setTrustAllServers(true);
             browserMobProxy.start();
             browserMobProxy.enableHarCaptureTypes(CaptureType.REQUEST_CONTENT);
             browserMobProxy.newHar("Thread-" + Thread.currentThread().getId() + "-" + System.currentTimeMillis());
+
+            // These filters must be added after the Har capture filter (added by newHar) to see the completed entries
+            if (HarCaptureRules.isNecessary(this)) {
+                harCaptureRulesFilters.put(Thread.currentThread().getId(), HarCaptureRules.attach(browserMobProxy, this));
+            }
+
+            harEntryNotifiers.put(Thread.currentThread().getId(), HarEntryNotifier.attach(browserMobProxy));
+            if (isHarStream()) {
+                harStreamWriters.put(Thread.currentThread().getId(), HarStreamWriter.attach(browserMobProxy, this));
+            }
+        }
+    }
+
+    /**
+     * Start a new Har for the thread if the browser mob proxy is started such as for each test method.  The previous
+     * Har is written to file first if necessary.
+     *
+     * @param filename - File to write the previous Har to
+     */
+    public void newHarForThread(String filename) {
+        if (!isBrowserMobProxy() || !getBrowserMobProxyForThread().isStarted()) {
+            return;
+        }
+
+        BrowserMobProxy browserMobProxy = getBrowserMobProxyForThread();
+        Har har = browserMobProxy.getHar();
+        if (har != null && har.getLog() != null && HarIndex.getSize(har.getLog()) > 0) {
+            performWriteBrowserMobProxyLogToFile(filename);
+        }
+
+        browserMobProxy.newHar("Thread-" + Thread.currentThread().getId() + "-" + System.currentTimeMillis());
+        Long threadId = Thread.currentThread().getId();
+        HarCaptureRules captureRules = harCaptureRulesFilters.get(threadId);
+        if (captureRules != null) {
+            captureRules.reset();
+        }
+
+        HarStreamWriter stream = harStreamWriters.get(threadId);
+        if (stream != null) {
+            stream.reset();
         }
     }
 
     /**
-     * Stop the browser mob proxy if necessary for the thread
+     * Stop the browser mob proxy if necessary for the thread.<BR>
+     * <B>Note: </B> If the proxy is re-used, then the proxy is reset for the next test instead of stopped
      */
     public void stopBrowserMobProxyForThread() {
-        if (isBrowserMobProxy() && getBrowserMobProxyForThread().isStarted()) {
+        if (isBrowserMobProxy() && isReuseBrowserMobProxy() && getBrowserMobProxyForThread().isStarted()) {
+            resetBrowserMobProxyForThread();
+        } else if (isBrowserMobProxy() && getBrowserMobProxyForThread().isStarted()) {
             BrowserMobProxy browserMobProxy = getBrowserMobProxyForThread();
             browserMobProxy.stop();
             browserMobProxy.endHar();
@@ -925,6 +1272,50 @@ public class TestProperties {
         }
     }
 
+    /**
+     * End the Har &amp; remove the settings made by the test such that the proxy can be re-used by the next test
+     */
+    private void resetBrowserMobProxyForThread() {
+        Long threadId = Thread.currentThread().getId();
+        BrowserMobProxy browserMobProxy = getBrowserMobProxyForThread();
+        browserMobProxy.endHar();
+        browserMobProxy.clearBlacklist();
+        browserMobProxy.disableWhitelist();
+        browserMobProxy.clearRewriteRules();
+        browserMobProxy.removeAllHeaders();
+
+        HarCaptureRules captureRules = harCaptureRulesFilters.get(threadId);
+        if (captureRules != null) {
+            captureRules.reset();
+        }
+
+        HarStreamWriter stream = harStreamWriters.get(threadId);
+        if (stream != null) {
+            stream.reset();
+        }
+    }
+
+    /**
+     * Stop the browser mob proxies of all the threads such as when the proxies are re-used for the entire suite
+     */
+    public void stopAllBrowserMobProxies() {
+        for (BrowserMobProxy browserMobProxy : browserMobProxies.values()) {
+            try {
+                if (browserMobProxy.isStarted()) {
+                    browserMobProxy.stop();
+                }
+            } catch (Exception ignore) {
+                // Proxy may have already been stopped
+            }
+        }
+
+        harStreamWriters.values().forEach(HarStreamWriter::close);
+        browserMobProxies.clear();
+        harEntryNotifiers.clear();
+        harCaptureRulesFilters.clear();
+        harStreamWriters.clear();
+    }
+
     public Har getHarForThread() {
         return getBrowserMobProxyForThread().getHar();
     }
@@ -938,6 +1329,12 @@ public class TestProperties {
     public void performWriteBrowserMobProxyLogToFile(String filename) {
         if (isBrowserMobProxy() && writeBrowserMobProxyLogToFile) {
             try {
+                HarStreamWriter stream = harStreamWriters.get(Thread.currentThread().getId());
+                if (stream != null) {
+                    stream.writeHar(filename);
+                    return;
+                }
+
                 Har har = getHarForThread();
                 FileOutputStream fos = new FileOutputStream(filename);
                 har.writeTo(fos);
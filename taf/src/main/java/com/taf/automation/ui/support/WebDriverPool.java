@@ -0,0 +1,278 @@
+package com.taf.automation.ui.support;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of WebDriver sessions that are re-used between tests with the same browser configuration such that each test
+ * does not need to wait for the browser to start.<BR>
+ * When a session is released, the extra windows are closed, the cookies &amp; storage are cleared and the browser is
+ * navigated to about:blank before the session is made available to the next test.<BR>
+ * <B>Notes: </B>
+ * <OL>
+ * <LI>Sessions are health checked before re-use.  Sessions that crashed, hung, were idle too long or were used the
+ * max number of times are quit.</LI>
+ * <LI>Appium sessions &amp; sessions using the BrowserMob Proxy (which is for a specific thread) are not pooled</LI>
+ * <LI>Only the cookies for the current domain can be deleted using WebDriver.  Tests that rely on cookies for other
+ * domains being cleared should not use the pool.</LI>
+ * </OL>
+ */
+public class WebDriverPool {
+    private static final Logger LOG = LoggerFactory.getLogger(WebDriverPool.class);
+    private static final String ABOUT_BLANK = "about:blank";
+    private static final String CLEAR_STORAGE = "try { window.localStorage.clear(); } catch (e) { } " +
+            "try { window.sessionStorage.clear(); } catch (e) { }";
+    private final Map<String, BlockingDeque<Session>> idle;
+    private final Map<WebDriver, Session> leased;
+    private final ExecutorService executor;
+    private final AtomicLong created;
+    private final AtomicLong reused;
+    private final AtomicLong evicted;
+
+    /**
+     * Pooled session &amp; its usage
+     */
+    private static class Session {
+        private final String key;
+        private final WebDriver driver;
+        private int uses;
+        private long released;
+
+        private Session(String key, WebDriver driver) {
+            this.key = key;
+            this.driver = driver;
+        }
+    }
+
+    private WebDriverPool() {
+        idle = new ConcurrentHashMap<>();
+        leased = Collections.synchronizedMap(new IdentityHashMap<>());
+        created = new AtomicLong();
+        reused = new AtomicLong();
+        evicted = new AtomicLong();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "webdriver-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+    }
+
+    private static class LazyHolder {
+        private static final WebDriverPool INSTANCE = new WebDriverPool();
+    }
+
+    public static WebDriverPool getInstance() {
+        return WebDriverPool.LazyHolder.INSTANCE;
+    }
+
+    /**
+     * Check if the sessions for the test properties can be pooled
+     *
+     * @param props - Test Properties used to create the WebDriver
+     * @return true if the sessions can be pooled
+     */
+    public static boolean isPoolable(TestProperties props) {
+        return props.isWebDriverPool()
+                && !props.getBrowserType().isAppiumDriver()
+                && !(props.isBrowserMobProxy() && props.getHttpProxy() == null && props.getHttpsProxy() == null);
+    }
+
+    /**
+     * Get the key for the browser configuration.  Only sessions with the same configuration are re-used.
+     *
+     * @param props - Test Properties used to create the WebDriver
+     * @return key
+     */
+    static String getKey(TestProperties props) {
+        return props.getBrowserType()
+                + "|" + props.getRemoteURL()
+                + "|" + props.getBrowserPlatform()
+                + "|" + props.getBrowserVersion()
+                + "|" + props.getExtraCapabilities().asMap()
+                + "|" + props.getHttpProxy()
+                + "|" + props.getHttpsProxy()
+                + "|" + props.getUserAgent();
+    }
+
+    /**
+     * Get a healthy idle session for the browser configuration or a new session if there are none
+     *
+     * @param props - Test Properties used to create the WebDriver
+     * @return WebDriver
+     */
+    public WebDriver getWebDriver(TestProperties props) {
+        String key = getKey(props);
+        BlockingDeque<Session> sessions = idle.computeIfAbsent(key, k -> new LinkedBlockingDeque<>());
+        Session session;
+        while ((session = sessions.pollFirst()) != null) {
+            if (isExpired(session, props) || !isHealthy(session, props)) {
+                evict(session);
+                continue;
+            }
+
+            reused.incrementAndGet();
+            leased.put(session.driver, session);
+            return session.driver;
+        }
+
+        WebDriver driver = WebDriverProvisioner.getInstance().getWebDriver(props);
+        created.incrementAndGet();
+        leased.put(driver, new Session(key, driver));
+        return driver;
+    }
+
+    /**
+     * Release the session such that it can be re-used by another test
+     *
+     * @param driver - WebDriver that was returned by the pool
+     * @return false if the driver is not from the pool (and was not quit) else true
+     */
+    public boolean release(WebDriver driver) {
+        Session session = (driver == null) ? null : leased.remove(driver);
+        if (session == null) {
+            return false;
+        }
+
+        TestProperties props = TestProperties.getInstance();
+        session.uses++;
+        BlockingDeque<Session> sessions = idle.computeIfAbsent(session.key, k -> new LinkedBlockingDeque<>());
+        if (session.uses >= props.getWebDriverPoolMaxReuse()
+                || sessions.size() >= props.getWebDriverPoolMaxIdle()
+                || !reset(session, props)) {
+            evict(session);
+            return true;
+        }
+
+        session.released = System.currentTimeMillis();
+        sessions.offerFirst(session);
+        return true;
+    }
+
+    /**
+     * Remove the session from the pool &amp; quit it.  This is used when the test determines that the session
+     * is no longer usable.
+     *
+     * @param driver - WebDriver that was returned by the pool
+     */
+    public void discard(WebDriver driver) {
+        Session session = (driver == null) ? null : leased.remove(driver);
+        if (session != null) {
+            evict(session);
+        }
+    }
+
+    private boolean isExpired(Session session, TestProperties props) {
+        int idleTimeout = props.getWebDriverPoolIdleTimeout();
+        return idleTimeout > 0 && System.currentTimeMillis() - session.released > idleTimeout;
+    }
+
+    private boolean isHealthy(Session session, TestProperties props) {
+        return execute(() -> session.driver.getWindowHandle(), props.getWebDriverPoolHealthTimeout());
+    }
+
+    private boolean reset(Session session, TestProperties props) {
+        WebDriver driver = session.driver;
+        return execute(() -> {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (int i = 1; i < handles.size(); i++) {
+                driver.switchTo().window(handles.get(i)).close();
+            }
+
+            driver.switchTo().window(handles.get(0));
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE);
+            driver.get(ABOUT_BLANK);
+        }, props.getWebDriverPoolHealthTimeout());
+    }
+
+    /**
+     * Execute the action on the session with a timeout such that a hung session does not block the test
+     *
+     * @param action  - Action to execute
+     * @param timeout - Timeout (milliseconds)
+     * @return true if the action completed successfully before the timeout
+     */
+    private boolean execute(Runnable action, int timeout) {
+        Future<?> future = executor.submit(action);
+        try {
+            future.get(timeout, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            LOG.debug("WebDriver session is not usable:  " + ex.getMessage());
+        }
+
+        future.cancel(true);
+        return false;
+    }
+
+    private void evict(Session session) {
+        evicted.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                session.driver.quit();
+            } catch (Exception ignore) {
+                // Session may have already crashed
+            }
+        });
+    }
+
+    /**
+     * @return number of sessions that were created by the pool
+     */
+    public long getCreated() {
+        return created.get();
+    }
+
+    /**
+     * @return number of times a session was re-used instead of creating a new session
+     */
+    public long getReused() {
+        return reused.get();
+    }
+
+    /**
+     * @return number of sessions that were quit due to failed health check, idle timeout or max reuse
+     */
+    public long getEvicted() {
+        return evicted.get();
+    }
+
+    /**
+     * Quit all the idle sessions
+     */
+    public void shutdown() {
+        for (BlockingDeque<Session> sessions : idle.values()) {
+            Iterator<Session> iterator = sessions.iterator();
+            while (iterator.hasNext()) {
+                Session session = iterator.next();
+                iterator.remove();
+                try {
+                    session.driver.quit();
+                } catch (Exception ignore) {
+                    // Session may have already crashed
+                }
+            }
+        }
+    }
+
+}
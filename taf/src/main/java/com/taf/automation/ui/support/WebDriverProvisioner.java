@@ -0,0 +1,199 @@
+package com.taf.automation.ui.support;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates the WebDrivers in the background at the start of the suite such that the browser launch overlaps with
+ * the data loading &amp; setup of the first tests.<BR>
+ * When a test needs a driver, it takes a pre-warmed driver for the browser configuration (waiting for it to finish
+ * launching if necessary) else a new driver is created on the test thread.<BR>
+ * <B>Notes: </B>
+ * <OL>
+ * <LI>Appium drivers &amp; drivers using the BrowserMob Proxy (which is for a specific thread) are not pre-warmed</LI>
+ * <LI>Pre-warmed drivers that were not used are quit when the suite finishes</LI>
+ * </OL>
+ */
+public class WebDriverProvisioner {
+    private static final Logger LOG = LoggerFactory.getLogger(WebDriverProvisioner.class);
+    private final Map<String, Queue<CompletableFuture<WebDriver>>> prewarmed;
+    private final AtomicLong provisioned;
+    private final AtomicLong provisionTime;
+    private final AtomicLong taken;
+    private final AtomicLong waitTime;
+    private final AtomicLong created;
+    private final AtomicLong createTime;
+    private ExecutorService executor;
+
+    private WebDriverProvisioner() {
+        prewarmed = new ConcurrentHashMap<>();
+        provisioned = new AtomicLong();
+        provisionTime = new AtomicLong();
+        taken = new AtomicLong();
+        waitTime = new AtomicLong();
+        created = new AtomicLong();
+        createTime = new AtomicLong();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+    }
+
+    private static class LazyHolder {
+        private static final WebDriverProvisioner INSTANCE = new WebDriverProvisioner();
+    }
+
+    public static WebDriverProvisioner getInstance() {
+        return WebDriverProvisioner.LazyHolder.INSTANCE;
+    }
+
+    /**
+     * Check if the drivers for the test properties can be created in the background
+     *
+     * @param props - Test Properties used to create the WebDriver
+     * @return true if the drivers can be pre-warmed
+     */
+    public static boolean isPrewarmable(TestProperties props) {
+        return !props.getBrowserType().isAppiumDriver()
+                && !(props.isBrowserMobProxy() && props.getHttpProxy() == null && props.getHttpsProxy() == null);
+    }
+
+    /**
+     * Start creating the drivers in the background
+     *
+     * @param props - Test Properties used to create the WebDrivers
+     * @param count - Number of drivers to create
+     */
+    public synchronized void start(TestProperties props, int count) {
+        if (count < 1 || !isPrewarmable(props)) {
+            return;
+        }
+
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(count, runnable -> {
+                Thread thread = new Thread(runnable, "webdriver-provisioner");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        Queue<CompletableFuture<WebDriver>> queue = prewarmed.computeIfAbsent(WebDriverPool.getKey(props), k -> new ConcurrentLinkedQueue<>());
+        for (int i = 0; i < count; i++) {
+            queue.add(CompletableFuture.supplyAsync(() -> {
+                long start = System.currentTimeMillis();
+                WebDriver driver = props.getBrowserType().getNewWebDriver(props);
+                provisioned.incrementAndGet();
+                provisionTime.addAndGet(System.currentTimeMillis() - start);
+                return driver;
+            }, executor));
+        }
+    }
+
+    /**
+     * Get a pre-warmed driver for the browser configuration (waiting for it to launch if necessary) or
+     * create a new driver if there are none
+     *
+     * @param props - Test Properties used to create the WebDriver
+     * @return WebDriver
+     */
+    public WebDriver getWebDriver(TestProperties props) {
+        Queue<CompletableFuture<WebDriver>> queue = prewarmed.isEmpty() ? null : prewarmed.get(WebDriverPool.getKey(props));
+        CompletableFuture<WebDriver> future;
+        while (queue != null && (future = queue.poll()) != null) {
+            long start = System.currentTimeMillis();
+            try {
+                WebDriver driver = future.join();
+                taken.incrementAndGet();
+                waitTime.addAndGet(System.currentTimeMillis() - start);
+                return driver;
+            } catch (Exception ex) {
+                LOG.warn("Pre-warmed WebDriver could not be created:  " + ex.getMessage());
+            }
+        }
+
+        long start = System.currentTimeMillis();
+        WebDriver driver = props.getBrowserType().getNewWebDriver(props);
+        created.incrementAndGet();
+        createTime.addAndGet(System.currentTimeMillis() - start);
+        return driver;
+    }
+
+    /**
+     * @return number of drivers that were created in the background
+     */
+    public long getProvisioned() {
+        return provisioned.get();
+    }
+
+    /**
+     * @return average time (milliseconds) to create a driver in the background
+     */
+    public long getAverageProvisionTime() {
+        return average(provisionTime, provisioned);
+    }
+
+    /**
+     * @return number of pre-warmed drivers that were taken by the tests
+     */
+    public long getTaken() {
+        return taken.get();
+    }
+
+    /**
+     * @return average time (milliseconds) the test thread waited for a pre-warmed driver
+     */
+    public long getAverageWaitTime() {
+        return average(waitTime, taken);
+    }
+
+    /**
+     * @return number of drivers that had to be created on the test thread
+     */
+    public long getCreated() {
+        return created.get();
+    }
+
+    /**
+     * @return average time (milliseconds) to create a driver on the test thread
+     */
+    public long getAverageCreateTime() {
+        return average(createTime, created);
+    }
+
+    private static long average(AtomicLong total, AtomicLong count) {
+        long value = count.get();
+        return (value == 0) ? 0 : total.get() / value;
+    }
+
+    /**
+     * Quit the pre-warmed drivers that were not used
+     */
+    public synchronized void shutdown() {
+        for (Queue<CompletableFuture<WebDriver>> queue : prewarmed.values()) {
+            CompletableFuture<WebDriver> future;
+            while ((future = queue.poll()) != null) {
+                future.thenAccept(driver -> {
+                    try {
+                        driver.quit();
+                    } catch (Exception ignore) {
+                        // Driver may have already crashed
+                    }
+                });
+            }
+        }
+
+        prewarmed.clear();
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.taf.automation.ui.support.conditional;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class determines the poll interval while waiting based on the criteria statistics.  The interval starts
+ * small and doubles after each check up to the configured poll interval.  If the criteria usually take longer to
+ * match, then checking is delayed until closer to that time.  The interval is never less than the time the last
+ * check took to prevent slow criteria from constantly using the driver.
+ */
+public class AdaptivePollScheduler {
+    private static final long MIN_POLL = 50L;
+    private long maxPoll;
+    private long start;
+    private long expectedTimeToMatch;
+    private long interval;
+
+    /**
+     * Constructor
+     *
+     * @param plan     - Plan of the criteria being waited on
+     * @param maxPoll  - Maximum poll interval (in milliseconds)
+     * @param matchAll - true if all the criteria need to match, false if any of the criteria can match
+     */
+    public AdaptivePollScheduler(CriteriaPlan plan, long maxPoll, boolean matchAll) {
+        this.maxPoll = Math.max(maxPoll, MIN_POLL);
+        start = System.currentTimeMillis();
+        interval = MIN_POLL;
+        expectedTimeToMatch = getExpectedTimeToMatch(plan, matchAll);
+    }
+
+    /**
+     * Get the expected time for the criteria to match from the statistics
+     *
+     * @param plan     - Plan of the criteria being waited on
+     * @param matchAll - true to use the slowest criteria, false to use the fastest criteria
+     * @return -1 if there are no statistics for any criteria else expected time (in milliseconds)
+     */
+    private static long getExpectedTimeToMatch(CriteriaPlan plan, boolean matchAll) {
+        long expected = -1;
+        for (int i = 0; i < plan.size(); i++) {
+            long average = CriteriaStatistics.getInstance().getAverageTimeToMatch(plan.getCriteria(i).getCriteriaType());
+            if (average < 0) {
+                // Without statistics for a criteria, it is unknown when it may match
+                return -1;
+            }
+
+            if (expected < 0 || (matchAll && average > expected) || (!matchAll && average < expected)) {
+                expected = average;
+            }
+        }
+
+        return expected;
+    }
+
+    /**
+     * Get the time to wait before the next check
+     *
+     * @param lastCheckNanos - Time (in nanoseconds) that the last check took
+     * @return time to wait (in milliseconds)
+     */
+    public long nextInterval(long lastCheckNanos) {
+        long elapsed = System.currentTimeMillis() - start;
+        long wait = interval;
+        if (expectedTimeToMatch > elapsed) {
+            wait = Math.max(wait, Math.min(expectedTimeToMatch - elapsed, maxPoll));
+        }
+
+        wait = Math.max(wait, TimeUnit.NANOSECONDS.toMillis(lastCheckNanos));
+        interval = Math.min(interval * 2, maxPoll);
+        return wait;
+    }
+
+}
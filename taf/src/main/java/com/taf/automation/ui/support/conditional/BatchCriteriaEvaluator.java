@@ -0,0 +1,497 @@
+package com.taf.automation.ui.support.conditional;
+
+import com.taf.automation.ui.support.util.Utils;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * This class evaluates all the DOM based criteria using a single JavaScript execution instead of WebDriver calls for
+ * each criteria (and each drop down option.)  Criteria that cannot be evaluated in the page (alert, popup, lambda
+ * expression, etc.) or use a locator that cannot be converted are not evaluated and need to be matched using the
+ * MatchFactory.<BR>
+ * <B>Notes:</B>
+ * <OL>
+ * <LI>Displayed is determined by the element having a layout box, not hidden &amp; not transparent which is close
+ * but not identical to WebDriver's algorithm</LI>
+ * <LI>Text is the innerText of the element which is close but not identical to WebDriver's visible text</LI>
+ * </OL>
+ */
+public class BatchCriteriaEvaluator {
+    private static final String BATCH_CRITERIA_FUNCTIONS = Utils.readResource("JS/BatchCriteria.js");
+    private static final String BATCH_CRITERIA = BATCH_CRITERIA_FUNCTIONS + "\nreturn getStates(arguments[0]);";
+    private static final String WAIT_FOR_CRITERIA = BATCH_CRITERIA_FUNCTIONS + "\n" + Utils.readResource("JS/WaitForCriteria.js");
+    private static final Set<CriteriaType> SUPPORTED = EnumSet.of(
+            CriteriaType.READY,
+            CriteriaType.DISPLAYED,
+            CriteriaType.REMOVED,
+            CriteriaType.ENABLED,
+            CriteriaType.DISABLED,
+            CriteriaType.EXISTS,
+            CriteriaType.SELECTED,
+            CriteriaType.UNSELECTED,
+            CriteriaType.TEXT_EQUALS,
+            CriteriaType.TEXT_EQUALS_IGNORE_CASE,
+            CriteriaType.TEXT_REGEX,
+            CriteriaType.TEXT_NOT_EQUAL,
+            CriteriaType.TEXT_DOES_NOT_CONTAIN,
+            CriteriaType.TEXT_CONTAINS,
+            CriteriaType.ATTRIBUTE_EQUALS,
+            CriteriaType.ATTRIBUTE_EQUALS_IGNORE_CASE,
+            CriteriaType.ATTRIBUTE_REGEX,
+            CriteriaType.ATTRIBUTE_NOT_EQUAL,
+            CriteriaType.ATTRIBUTE_DOES_NOT_CONTAIN,
+            CriteriaType.ATTRIBUTE_CONTAINS,
+            CriteriaType.DROPDOWN_INDEX,
+            CriteriaType.DROPDOWN_HTML_EQUALS,
+            CriteriaType.DROPDOWN_HTML_EQUALS_IGNORE_CASE,
+            CriteriaType.DROPDOWN_HTML_REGEX,
+            CriteriaType.DROPDOWN_HTML_NOT_EQUAL,
+            CriteriaType.DROPDOWN_HTML_DOES_NOT_CONTAIN,
+            CriteriaType.DROPDOWN_HTML_CONTAINS,
+            CriteriaType.DROPDOWN_EQUALS,
+            CriteriaType.DROPDOWN_EQUALS_IGNORE_CASE,
+            CriteriaType.DROPDOWN_REGEX,
+            CriteriaType.DROPDOWN_NOT_EQUAL,
+            CriteriaType.DROPDOWN_DOES_NOT_CONTAIN,
+            CriteriaType.DROPDOWN_CONTAINS,
+            CriteriaType.ELEMENTS_EQUAL,
+            CriteriaType.ELEMENTS_RANGE,
+            CriteriaType.ELEMENTS_LESS_THAN,
+            CriteriaType.ELEMENTS_MORE_THAN
+    );
+
+    private static final String USING = "using";
+    private static final String VALUE = "value";
+    private static final String ATTRIBUTE = "attribute";
+    private static final String FOUND = "found";
+    private static final String DISPLAYED = "displayed";
+    private static final String ENABLED = "enabled";
+    private static final String SELECTED = "selected";
+    private static final String TEXT = "text";
+    private static final String DROPDOWN = "dropdown";
+    private static final String OPTION = "option";
+    private static final String INDEX = "index";
+    private static final String COUNT = "count";
+    private static final String ELEMENTS = "elements";
+    private static final String SIGNATURE = "signature";
+    private static final String SIGNATURES = "signatures";
+    private static final String CHANGED = "changed";
+
+    private WebDriver driver;
+    private List<Criteria> criteria;
+    private List<Integer> indexes;
+    private List<Map<String, Object>> requests;
+    private Map<Integer, Pattern> patterns;
+    private List<Object> signatures;
+
+    /**
+     * Constructor - The requests for the supported criteria are only constructed once as such the evaluator can be
+     * reused while waiting
+     *
+     * @param driver   - WebDriver used to execute the JavaScript
+     * @param criteria - List of criteria to evaluate
+     */
+    public BatchCriteriaEvaluator(WebDriver driver, List<Criteria> criteria) {
+        this.driver = driver;
+        this.criteria = criteria;
+        indexes = new ArrayList<>();
+        requests = new ArrayList<>();
+        patterns = new HashMap<>();
+        if (criteria == null) {
+            return;
+        }
+
+        for (int i = 0; i < criteria.size(); i++) {
+            if (isSupported(criteria.get(i))) {
+                indexes.add(i);
+                requests.add(toRequest(criteria.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Checks if the criteria can be evaluated by this class
+     *
+     * @param criteria - Criteria to check
+     * @return true if the criteria can be evaluated in the page else false
+     */
+    public static boolean isSupported(Criteria criteria) {
+        return criteria != null
+                && SUPPORTED.contains(criteria.getCriteriaType())
+                && getValue(getLocator(criteria)) != null;
+    }
+
+    /**
+     * Get the locator from the criteria options
+     *
+     * @param criteria - Criteria
+     * @return null if the options do not have a locator else locator
+     */
+    private static By getLocator(Criteria criteria) {
+        if (criteria.getOptions() instanceof ElementOptions) {
+            return ((ElementOptions) criteria.getOptions()).getLocator();
+        } else if (criteria.getOptions() instanceof NumberOptions) {
+            return ((NumberOptions) criteria.getOptions()).getLocator();
+        }
+
+        return null;
+    }
+
+    private static boolean isDropDown(CriteriaType type) {
+        return type.toString().startsWith("DROPDOWN_");
+    }
+
+    private static boolean isNumberOfElements(CriteriaType type) {
+        return type.toString().startsWith("ELEMENTS_");
+    }
+
+    /**
+     * Evaluate all the supported criteria using a single JavaScript execution
+     *
+     * @return Map of the criteria index to the result for each criteria that was evaluated.  Any criteria that is
+     * not in the map needs to be matched using the MatchFactory.  If the JavaScript could not be executed, then the
+     * map is empty.
+     */
+    public Map<Integer, ResultInfo> evaluate() {
+        Map<Integer, ResultInfo> results = new HashMap<>();
+        if (requests.isEmpty() || !(driver instanceof JavascriptExecutor)) {
+            return results;
+        }
+
+        List<Map<String, Object>> states = executeScript();
+        if (states == null || states.size() != requests.size()) {
+            return results;
+        }
+
+        signatures = new ArrayList<>();
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            results.put(index, toResultInfo(index, states.get(i)));
+            signatures.add(states.get(i).get(SIGNATURE));
+        }
+
+        return results;
+    }
+
+    /**
+     * @return true if all the criteria are supported such that waiting for the state to change can be used
+     */
+    public boolean isAllSupported() {
+        return criteria != null && !criteria.isEmpty() && requests.size() == criteria.size();
+    }
+
+    /**
+     * @return true if the state of the elements was seen by the last evaluate or wait for change
+     */
+    public boolean hasSignatures() {
+        return signatures != null;
+    }
+
+    /**
+     * Wait (in the page) until the state of the elements for the criteria changes from the state last seen.  The
+     * listeners for DOM changes &amp; completed XHR requests are installed before the state is checked such that a
+     * change after the last check returns immediately.<BR>
+     * <B>Note: </B> The script timeout must allow for the max wait
+     *
+     * @param maxWait - Maximum time (in milliseconds) to wait
+     * @param settle  - Time (in milliseconds) to wait after a DOM change or XHR completes before checking the state
+     * @return true if the state changed else false
+     */
+    @SuppressWarnings("unchecked")
+    public boolean waitForChange(long maxWait, long settle) {
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeAsyncScript(WAIT_FOR_CRITERIA, requests, signatures, maxWait, settle);
+        signatures = (List<Object>) result.get(SIGNATURES);
+        return isTrue(result, CHANGED);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> executeScript() {
+        try {
+            return (List<Map<String, Object>>) ((JavascriptExecutor) driver).executeScript(BATCH_CRITERIA, requests);
+        } catch (Exception ex) {
+            // Alert present, JavaScript disabled, etc. which means the criteria need to be evaluated individually
+            return null;
+        }
+    }
+
+    /**
+     * Convert the criteria to the request used by the JavaScript
+     *
+     * @param criteria - Criteria that is supported
+     * @return Map
+     */
+    private static Map<String, Object> toRequest(Criteria criteria) {
+        By locator = getLocator(criteria);
+        Map<String, Object> request = new HashMap<>();
+        request.put(USING, getUsing(locator));
+        request.put(VALUE, getValue(locator));
+        if (criteria.getCriteriaType().toString().startsWith("ATTRIBUTE_")) {
+            request.put(ATTRIBUTE, ((ElementOptions) criteria.getOptions()).getAttribute());
+        } else if (isDropDown(criteria.getCriteriaType())) {
+            request.put(DROPDOWN, true);
+        } else if (isNumberOfElements(criteria.getCriteriaType())) {
+            request.put(COUNT, true);
+        }
+
+        return request;
+    }
+
+    /**
+     * Get the locator strategy used by the JavaScript
+     *
+     * @param locator - Locator
+     * @return null if locator cannot be converted else locator strategy
+     */
+    private static String getUsing(By locator) {
+        if (locator instanceof By.ById) {
+            return "id";
+        } else if (locator instanceof By.ByCssSelector) {
+            return "css";
+        } else if (locator instanceof By.ByXPath) {
+            return "xpath";
+        } else if (locator instanceof By.ByName) {
+            return "name";
+        } else if (locator instanceof By.ByClassName) {
+            return "class";
+        } else if (locator instanceof By.ByTagName) {
+            return "tag";
+        } else if (locator instanceof By.ByLinkText) {
+            return "link";
+        } else if (locator instanceof By.ByPartialLinkText) {
+            return "partial";
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the locator value by removing only the known prefix for the locator strategy such that a value containing
+     * ": " is not changed
+     *
+     * @param locator - Locator
+     * @return null if locator cannot be converted else the locator value
+     */
+    private static String getValue(By locator) {
+        String prefix = getPrefix(locator);
+        String value = (locator == null) ? null : locator.toString();
+        if (prefix == null || value == null || !value.startsWith(prefix)) {
+            return null;
+        }
+
+        return value.substring(prefix.length());
+    }
+
+    /**
+     * Get the prefix of the locator's toString for the locator strategy
+     *
+     * @param locator - Locator
+     * @return null if locator cannot be converted else the prefix
+     */
+    private static String getPrefix(By locator) {
+        if (locator instanceof By.ById) {
+            return "By.id: ";
+        } else if (locator instanceof By.ByCssSelector) {
+            return "By.cssSelector: ";
+        } else if (locator instanceof By.ByXPath) {
+            return "By.xpath: ";
+        } else if (locator instanceof By.ByName) {
+            return "By.name: ";
+        } else if (locator instanceof By.ByClassName) {
+            return "By.className: ";
+        } else if (locator instanceof By.ByTagName) {
+            return "By.tagName: ";
+        } else if (locator instanceof By.ByLinkText) {
+            return "By.linkText: ";
+        } else if (locator instanceof By.ByPartialLinkText) {
+            return "By.partialLinkText: ";
+        }
+
+        return null;
+    }
+
+    /**
+     * Determine the result from the element state
+     *
+     * @param index - Index of the criteria that was evaluated
+     * @param state - Element state returned by the JavaScript
+     * @return ResultInfo
+     */
+    private ResultInfo toResultInfo(int index, Map<String, Object> state) {
+        Criteria criteria = this.criteria.get(index);
+        CriteriaType type = criteria.getCriteriaType();
+        if (isDropDown(type)) {
+            return toDropDownResultInfo(index, state);
+        } else if (isNumberOfElements(type)) {
+            return toNumberOfElementsResultInfo(index, state);
+        }
+
+        ElementOptions options = (ElementOptions) criteria.getOptions();
+        boolean found = isTrue(state, FOUND);
+        String value = null;
+        boolean match;
+        if (type == CriteriaType.READY) {
+            match = found && isTrue(state, DISPLAYED) && isTrue(state, ENABLED);
+        } else if (type == CriteriaType.DISPLAYED) {
+            match = found && isTrue(state, DISPLAYED);
+        } else if (type == CriteriaType.REMOVED) {
+            match = !found || !isTrue(state, DISPLAYED);
+        } else if (type == CriteriaType.ENABLED) {
+            match = found && isTrue(state, ENABLED);
+        } else if (type == CriteriaType.DISABLED) {
+            match = found && !isTrue(state, ENABLED);
+        } else if (type == CriteriaType.EXISTS) {
+            match = found;
+        } else if (type == CriteriaType.SELECTED) {
+            match = found && isTrue(state, SELECTED);
+        } else if (type == CriteriaType.UNSELECTED) {
+            match = found && !isTrue(state, SELECTED);
+        } else {
+            value = (String) state.get(type.toString().startsWith("TEXT_") ? TEXT : ATTRIBUTE);
+            match = found && value != null && options.getPattern() != null && isMatch(index, type, value.trim(), options.getPattern().trim());
+        }
+
+        ResultInfo resultInfo = new ResultInfo();
+        resultInfo.setMatch(match);
+        if (match) {
+            resultInfo.setCriteriaType(type);
+            resultInfo.getAdditionalInfo().put(ResultType.LOCATOR, options.getLocator());
+            if (type.toString().startsWith("ATTRIBUTE_")) {
+                resultInfo.getAdditionalInfo().put(ResultType.ATTRIBUTE, options.getAttribute());
+            }
+
+            if (value != null) {
+                resultInfo.getAdditionalInfo().put(ResultType.VALUE, value.trim());
+            }
+        }
+
+        return resultInfo;
+    }
+
+    /**
+     * Determine the result from the selected option in the same way as ElementDropDownMatch
+     *
+     * @param index - Index of the criteria that was evaluated
+     * @param state - Element state returned by the JavaScript
+     * @return ResultInfo
+     */
+    @SuppressWarnings("unchecked")
+    private ResultInfo toDropDownResultInfo(int index, Map<String, Object> state) {
+        Criteria criteria = this.criteria.get(index);
+        ElementOptions options = (ElementOptions) criteria.getOptions();
+        CriteriaType type = criteria.getCriteriaType();
+        Map<String, Object> option = (Map<String, Object>) state.get(OPTION);
+
+        String value = null;
+        if (option != null) {
+            if (type == CriteriaType.DROPDOWN_INDEX) {
+                value = String.valueOf(option.get(INDEX));
+            } else if (type.toString().startsWith("DROPDOWN_HTML_")) {
+                value = (String) option.get(VALUE);
+            } else {
+                value = (String) option.get(TEXT);
+            }
+        }
+
+        boolean match = value != null && options.getPattern() != null && isMatch(index, type, value, options.getPattern().trim());
+        ResultInfo resultInfo = new ResultInfo();
+        resultInfo.setMatch(match);
+        if (match) {
+            resultInfo.setCriteriaType(type);
+            resultInfo.getAdditionalInfo().put(ResultType.LOCATOR, options.getLocator());
+            resultInfo.getAdditionalInfo().put(ResultType.VALUE, value);
+        }
+
+        return resultInfo;
+    }
+
+    /**
+     * Determine the result from the number of elements in the same way as NumberOfElementsMatch
+     *
+     * @param index - Index of the criteria that was evaluated
+     * @param state - Element state returned by the JavaScript
+     * @return ResultInfo
+     */
+    @SuppressWarnings("unchecked")
+    private ResultInfo toNumberOfElementsResultInfo(int index, Map<String, Object> state) {
+        Criteria criteria = this.criteria.get(index);
+        NumberOptions options = (NumberOptions) criteria.getOptions();
+        CriteriaType type = criteria.getCriteriaType();
+        Object count = state.get(COUNT);
+
+        boolean match = false;
+        if (count instanceof Number) {
+            int size = ((Number) count).intValue();
+            if (type == CriteriaType.ELEMENTS_EQUAL) {
+                match = size == options.getMin();
+            } else if (type == CriteriaType.ELEMENTS_RANGE) {
+                match = options.getMin() <= size && size <= options.getMax();
+            } else if (type == CriteriaType.ELEMENTS_LESS_THAN) {
+                match = size < options.getMin();
+            } else {
+                match = size > options.getMin();
+            }
+        }
+
+        ResultInfo resultInfo = new ResultInfo();
+        resultInfo.setMatch(match);
+        if (match) {
+            resultInfo.setCriteriaType(type);
+            resultInfo.getAdditionalInfo().put(ResultType.LOCATOR, options.getLocator());
+            resultInfo.getAdditionalInfo().put(ResultType.VALUE, String.valueOf(count));
+            resultInfo.getAdditionalInfo().put(ResultType.ELEMENTS, (List<WebElement>) state.get(ELEMENTS));
+        }
+
+        return resultInfo;
+    }
+
+    private static boolean isTrue(Map<String, Object> state, String key) {
+        Object value = state.get(key);
+        return value instanceof Boolean && BooleanUtils.isTrue((Boolean) value);
+    }
+
+    /**
+     * Compare the actual and expected values in the same way as ElementTextMatch, ElementAttributeMatch &amp;
+     * ElementDropDownMatch
+     *
+     * @param index    - Index of the criteria used to cache the compiled regular expression
+     * @param type     - Criteria Type (TEXT_*, ATTRIBUTE_* or DROPDOWN_*)
+     * @param actual   - Actual value
+     * @param expected - Expected value
+     * @return true if match else false
+     */
+    private boolean isMatch(int index, CriteriaType type, String actual, String expected) {
+        String option = StringUtils.removeStart(StringUtils.substringAfter(type.toString(), "_"), "HTML_");
+        if (option.equals("EQUALS") || option.equals("INDEX")) {
+            return actual.equals(expected);
+        } else if (option.equals("EQUALS_IGNORE_CASE")) {
+            return actual.equalsIgnoreCase(expected);
+        } else if (option.equals("REGEX")) {
+            try {
+                return patterns.computeIfAbsent(index, k -> Pattern.compile(expected)).matcher(actual).matches();
+            } catch (Exception ignore) {
+                // Invalid regular expression is treated as no match like the other match classes
+                return false;
+            }
+        } else if (option.equals("NOT_EQUAL")) {
+            return !actual.equals(expected);
+        } else if (option.equals("DOES_NOT_CONTAIN")) {
+            return !actual.contains(expected);
+        } else {
+            return actual.contains(expected);
+        }
+    }
+
+}
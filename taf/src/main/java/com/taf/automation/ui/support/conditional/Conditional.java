@@ -2,10 +2,14 @@ package com.taf.automation.ui.support.conditional;
 
 import com.taf.automation.ui.support.TestProperties;
 import com.taf.automation.ui.support.util.Utils;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class is used to find the first condition that matches a list of possible conditions. An example of
@@ -14,6 +18,10 @@ import java.util.List;
  * will allow you to determine this.
  */
 public class Conditional {
+    private static final long MUTATION_SETTLE = 50L;
+    private static final long MAX_WAIT_FOR_MUTATION = 2000L;
+    private static final long SCRIPT_TIMEOUT_BUFFER = 5000L;
+    private static final long DEFAULT_SCRIPT_TIMEOUT = 30000L;
     private WebDriver driver;
     private ResultInfo resultInfo;
 
@@ -27,6 +35,26 @@ public class Conditional {
      */
     private int poll;
 
+    /**
+     * Flag to indicate if DOM based criteria are evaluated using a single JavaScript execution
+     */
+    private boolean batchEvaluation;
+
+    /**
+     * Flag to indicate if waiting between checks uses DOM changes instead of the poll interval
+     */
+    private boolean eventDriven;
+
+    /**
+     * Flag to indicate if the poll interval &amp; order the criteria are checked is based on the criteria statistics
+     */
+    private boolean adaptivePolling;
+
+    /**
+     * Time (in nanoseconds) the last check of the criteria took
+     */
+    private long lastCheckNanos;
+
     /**
      * Default Constructor - Poll Interval set to 0.5 second. <B>WebDriver still needs to be set.</B>
      */
@@ -64,6 +92,9 @@ public class Conditional {
         setDriver(driver);
         setTimeout(timeout);
         setPollInterval(poll);
+        setBatchEvaluation(TestProperties.getInstance().isConditionalBatchEvaluation());
+        setEventDriven(TestProperties.getInstance().isConditionalEventDriven());
+        setAdaptivePolling(TestProperties.getInstance().isConditionalAdaptivePolling());
     }
 
     /**
@@ -93,6 +124,40 @@ public class Conditional {
         this.poll = poll;
     }
 
+    /**
+     * Set the flag to evaluate all DOM based criteria using a single JavaScript execution.  Criteria that cannot be
+     * evaluated in the page are still matched individually.
+     *
+     * @param batchEvaluation - true to evaluate DOM based criteria using a single JavaScript execution
+     * @see BatchCriteriaEvaluator
+     */
+    public void setBatchEvaluation(boolean batchEvaluation) {
+        this.batchEvaluation = batchEvaluation;
+    }
+
+    /**
+     * Set the flag to wait (in the page) for a DOM change or XHR request that changes the state of the criteria
+     * elements (instead of the poll interval) before checking the criteria again.  This is only used if all the
+     * criteria can be evaluated in the page else the poll interval is used.<BR>
+     * <B>Note: </B> The script timeout of the driver is increased during the wait &amp; restored afterwards.
+     *
+     * @param eventDriven - true to wait for the state to change before checking the criteria again
+     */
+    public void setEventDriven(boolean eventDriven) {
+        this.eventDriven = eventDriven;
+    }
+
+    /**
+     * Set the flag to use the criteria statistics to check the cheapest criteria first and to determine the poll
+     * interval (which starts small and backs off up to the poll interval.)
+     *
+     * @param adaptivePolling - true to use the criteria statistics
+     * @see AdaptivePollScheduler
+     */
+    public void setAdaptivePolling(boolean adaptivePolling) {
+        this.adaptivePolling = adaptivePolling;
+    }
+
     /**
      * Get result information
      *
@@ -138,21 +203,30 @@ public class Conditional {
     @SuppressWarnings("java:S112")
     public int waitForMatch(List<Criteria> criteria, boolean throwError) {
         long maxtime = System.currentTimeMillis() + (long) timeout * 1000;
-        do {
-            int index = match(criteria);
-
-            // If no criteria, then no need to wait until timeout
-            if (index == -2) {
-                break;
-            }
-
-            if (index >= 0) {
-                return index;
-            } else {
-                Utils.sleep(poll);
+        long start = System.currentTimeMillis();
+        CriteriaPlan plan = compile(criteria);
+        BatchCriteriaEvaluator events = startEventDriven(plan);
+        AdaptivePollScheduler scheduler = getScheduler(plan, false);
+        try {
+            do {
+                int index = match(plan);
+
+                // If no criteria, then no need to wait until timeout
+                if (index == -2) {
+                    break;
+                }
+
+                if (index >= 0) {
+                    recordMatch(plan.getCriteria(index), start);
+                    return index;
+                } else {
+                    waitForChange(events, scheduler, maxtime);
+                }
             }
+            while (System.currentTimeMillis() < maxtime);
+        } finally {
+            stopEventDriven(events);
         }
-        while (System.currentTimeMillis() < maxtime);
 
         if (throwError) {
             StringBuilder sb = new StringBuilder();
@@ -186,14 +260,23 @@ public class Conditional {
     @SuppressWarnings("java:S112")
     public boolean waitForAllMatches(List<Criteria> criteria, boolean throwError) {
         long maxtime = System.currentTimeMillis() + (long) timeout * 1000;
-        do {
-            if (isAllMatched(criteria)) {
-                return true;
-            } else {
-                Utils.sleep(poll);
+        long start = System.currentTimeMillis();
+        CriteriaPlan plan = compile(criteria);
+        BatchCriteriaEvaluator events = startEventDriven(plan);
+        AdaptivePollScheduler scheduler = getScheduler(plan, true);
+        try {
+            do {
+                if (isAllMatched(plan)) {
+                    criteria.forEach(item -> recordMatch(item, start));
+                    return true;
+                } else {
+                    waitForChange(events, scheduler, maxtime);
+                }
             }
+            while (System.currentTimeMillis() < maxtime);
+        } finally {
+            stopEventDriven(events);
         }
-        while (System.currentTimeMillis() < maxtime);
 
         if (throwError) {
             StringBuilder sb = new StringBuilder();
@@ -205,6 +288,118 @@ public class Conditional {
         return false;
     }
 
+    /**
+     * Checks if waiting (in the page) for the state of the elements to change can be used for the criteria.  If
+     * possible, then the script timeout is increased to allow the wait.
+     *
+     * @param plan - Plan of the criteria that will be waited on
+     * @return null if waiting for a change cannot be used else the evaluator to wait for the change
+     */
+    private BatchCriteriaEvaluator startEventDriven(CriteriaPlan plan) {
+        if (!eventDriven || plan == null || !(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+
+        BatchCriteriaEvaluator evaluator = plan.getBatchCriteriaEvaluator();
+        if (evaluator == null || !evaluator.isAllSupported()) {
+            return null;
+        }
+
+        try {
+            long scriptTimeout = MAX_WAIT_FOR_MUTATION + SCRIPT_TIMEOUT_BUFFER;
+            driver.manage().timeouts().setScriptTimeout(scriptTimeout, TimeUnit.MILLISECONDS);
+            return evaluator;
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Restore the script timeout of the session if it was changed to wait for the state of the elements to change
+     *
+     * @param events - Evaluator used to wait for the change (null if not used)
+     */
+    private void stopEventDriven(BatchCriteriaEvaluator events) {
+        if (events == null) {
+            return;
+        }
+
+        try {
+            driver.manage().timeouts().setScriptTimeout(getSessionScriptTimeout(), TimeUnit.MILLISECONDS);
+        } catch (Exception ignore) {
+            // Session ended, alert present, etc.
+        }
+    }
+
+    /**
+     * Get the script timeout the session was created with as there is no way to get the current script timeout.
+     * The framework does not change the script timeout elsewhere as such this is the previous value.
+     *
+     * @return script timeout (in milliseconds)
+     */
+    private long getSessionScriptTimeout() {
+        if (driver instanceof HasCapabilities) {
+            Object timeouts = ((HasCapabilities) driver).getCapabilities().getCapability("timeouts");
+            if (timeouts instanceof Map && ((Map<?, ?>) timeouts).get("script") instanceof Number) {
+                return ((Number) ((Map<?, ?>) timeouts).get("script")).longValue();
+            }
+        }
+
+        return DEFAULT_SCRIPT_TIMEOUT;
+    }
+
+    /**
+     * Get the adaptive poll scheduler if enabled
+     *
+     * @param plan     - Plan of the criteria being waited on
+     * @param matchAll - true if all the criteria need to match
+     * @return null if adaptive polling is disabled or plan is null else AdaptivePollScheduler
+     */
+    private AdaptivePollScheduler getScheduler(CriteriaPlan plan, boolean matchAll) {
+        if (!adaptivePolling || plan == null) {
+            return null;
+        }
+
+        return new AdaptivePollScheduler(plan, poll, matchAll);
+    }
+
+    /**
+     * Record the time it took for the criteria to match
+     *
+     * @param criteria - Criteria that matched
+     * @param start    - Time (in milliseconds) that the wait started
+     */
+    private void recordMatch(Criteria criteria, long start) {
+        CriteriaStatistics.getInstance().recordMatch(criteria.getCriteriaType(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Wait before checking the criteria again.  If using events, then wait (in the page) until the state of the
+     * elements changes (or a max of 2 seconds as some changes such as CSS animations are not observable) else wait
+     * the poll interval (from the scheduler if adaptive polling.)<BR>
+     * <B>Note: </B> If the state seen by the last check is unknown (batch evaluation disabled &amp; first wait), then
+     * the wait is limited to the poll interval as a change before the listeners were installed cannot be detected.
+     *
+     * @param events    - Evaluator to wait for the change (null to use the poll interval)
+     * @param scheduler - Adaptive poll scheduler (null to use the poll interval)
+     * @param maxtime   - Time (in milliseconds) that the wait ends
+     */
+    private void waitForChange(BatchCriteriaEvaluator events, AdaptivePollScheduler scheduler, long maxtime) {
+        long remaining = maxtime - System.currentTimeMillis();
+        if (events == null || remaining <= 0) {
+            Utils.sleep((scheduler == null) ? poll : scheduler.nextInterval(lastCheckNanos));
+            return;
+        }
+
+        try {
+            long wait = Math.min(remaining, events.hasSignatures() ? MAX_WAIT_FOR_MUTATION : poll);
+            events.waitForChange(wait, MUTATION_SETTLE);
+        } catch (Exception ex) {
+            // Page unloaded, alert appeared, etc. which the next check needs to handle
+            Utils.sleep(poll);
+        }
+    }
+
     /**
      * Checks if any of the criteria match the current condition
      *
@@ -216,18 +411,44 @@ public class Conditional {
      * </ul>
      */
     public int match(List<Criteria> criteria) {
-        if (criteria == null) {
+        return match(compile(criteria));
+    }
+
+    /**
+     * Checks if any of the criteria in the plan match the current condition
+     *
+     * @param plan - Plan of the criteria to check against
+     * @return <ul>
+     * <li>-2 if plan is null</li>
+     * <li>-1 if none of the criteria match the current condition</li>
+     * <li>Index of the 1st criteria that matches the current condition (&gt;=0)</li>
+     * </ul>
+     */
+    private int match(CriteriaPlan plan) {
+        if (plan == null) {
             return -2;
         }
 
-        for (int i = 0; i < criteria.size(); i++) {
-            boolean result = isMatch(criteria.get(i));
+        long checkStart = System.nanoTime();
+        int index = -1;
+        Map<Integer, ResultInfo> batched = plan.batchEvaluate();
+        for (int i : plan.getEvaluationOrder(adaptivePolling)) {
+            // Only a criteria before the current match can change the result
+            if (index >= 0 && i > index) {
+                continue;
+            }
+
+            boolean result = isMatch(plan, i, batched.get(i));
             if (result) {
-                return i;
+                index = i;
+                if (index == 0 || !adaptivePolling) {
+                    break;
+                }
             }
         }
 
-        return -1;
+        lastCheckNanos = System.nanoTime() - checkStart;
+        return index;
     }
 
     /**
@@ -237,18 +458,73 @@ public class Conditional {
      * @return false if any criteria is not matched, true if all criteria are matched
      */
     public boolean isAllMatched(List<Criteria> criteria) {
-        if (criteria == null) {
+        return isAllMatched(compile(criteria));
+    }
+
+    /**
+     * Checks if <B>all</B> of the criteria in the plan match the current condition
+     *
+     * @param plan - Plan of the criteria to check
+     * @return false if any criteria is not matched, true if all criteria are matched
+     */
+    private boolean isAllMatched(CriteriaPlan plan) {
+        if (plan == null) {
             return false;
         }
 
-        for (int i = 0; i < criteria.size(); i++) {
-            boolean result = isMatch(criteria.get(i));
-            if (!result) {
-                return false;
+        long checkStart = System.nanoTime();
+        try {
+            Map<Integer, ResultInfo> batched = plan.batchEvaluate();
+            for (int i : plan.getEvaluationOrder(adaptivePolling)) {
+                boolean result = isMatch(plan, i, batched.get(i));
+                if (!result) {
+                    return false;
+                }
             }
+
+            return true;
+        } finally {
+            lastCheckNanos = System.nanoTime() - checkStart;
+        }
+    }
+
+    /**
+     * Resolve the criteria to the match classes once such that they can be reused on each check
+     *
+     * @param criteria - List of criteria to resolve
+     * @return null if criteria is null else CriteriaPlan
+     */
+    private CriteriaPlan compile(List<Criteria> criteria) {
+        if (criteria == null) {
+            return null;
+        }
+
+        return new CriteriaPlan(driver, criteria, batchEvaluation, eventDriven);
+    }
+
+    /**
+     * Checks if the criteria in the plan matches the current condition using the batched result if available
+     *
+     * @param plan    - Plan of the criteria
+     * @param index   - Index of the criteria to check
+     * @param batched - result from the batch evaluation (null if criteria was not evaluated)
+     * @return true if criteria matches the current condition else false
+     */
+    private boolean isMatch(CriteriaPlan plan, int index, ResultInfo batched) {
+        if (batched == null) {
+            long evaluationStart = System.nanoTime();
+            boolean result = isMatch(plan.getMatcher(index));
+            long evaluationTime = System.nanoTime() - evaluationStart;
+            CriteriaStatistics.getInstance().recordEvaluation(plan.getCriteria(index).getCriteriaType(), evaluationTime);
+            return result;
+        }
+
+        if (batched.isMatch()) {
+            resultInfo = batched;
+            return true;
         }
 
-        return true;
+        return false;
     }
 
     /**
@@ -262,6 +538,16 @@ public class Conditional {
         Match matcher = matchFactory.getMatch(criteria);
         matcher.setDriver(driver);
         matcher.setCriteria(criteria);
+        return isMatch(matcher);
+    }
+
+    /**
+     * Checks if the match class matches the current condition
+     *
+     * @param matcher - Match class that has the driver &amp; criteria set
+     * @return true if criteria matches the current condition else false
+     */
+    private boolean isMatch(Match matcher) {
         if (matcher.isMatch()) {
             resultInfo = matcher.getResultInfo();
             return true;
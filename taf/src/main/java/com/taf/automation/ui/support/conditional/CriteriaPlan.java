@@ -0,0 +1,114 @@
+package com.taf.automation.ui.support.conditional;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class resolves a list of criteria to the match classes once such that they can be reused on each check
+ * while waiting.  The match classes only need to convert the options &amp; compile any regular expression once.
+ * The criteria can be evaluated in the order of the cheapest criteria first using the CriteriaStatistics.
+ */
+public class CriteriaPlan {
+    private List<Criteria> criteria;
+    private List<Match> matchers;
+    private BatchCriteriaEvaluator batchCriteriaEvaluator;
+    private boolean batchEvaluation;
+
+    /**
+     * Constructor
+     *
+     * @param driver          - WebDriver to be used by the match classes
+     * @param criteria        - List of criteria to resolve
+     * @param batchEvaluation - true to evaluate DOM based criteria using a single JavaScript execution
+     * @param eventDriven     - true to wait (in the page) for the state of the elements to change
+     */
+    public CriteriaPlan(WebDriver driver, List<Criteria> criteria, boolean batchEvaluation, boolean eventDriven) {
+        this.criteria = criteria;
+        this.batchEvaluation = batchEvaluation;
+        matchers = new ArrayList<>();
+        MatchFactory matchFactory = new MatchFactory();
+        for (Criteria item : criteria) {
+            Match matcher = matchFactory.getMatch(item);
+            matcher.setDriver(driver);
+            matcher.setCriteria(item);
+            matchers.add(matcher);
+        }
+
+        if (batchEvaluation || eventDriven) {
+            batchCriteriaEvaluator = new BatchCriteriaEvaluator(driver, criteria);
+        }
+    }
+
+    /**
+     * @return the number of criteria in the plan
+     */
+    public int size() {
+        return matchers.size();
+    }
+
+    /**
+     * Get the criteria
+     *
+     * @param index - Index of the criteria
+     * @return Criteria
+     */
+    public Criteria getCriteria(int index) {
+        return criteria.get(index);
+    }
+
+    /**
+     * Get the match class for the criteria
+     *
+     * @param index - Index of the criteria
+     * @return Match class that has the driver &amp; criteria set
+     */
+    public Match getMatcher(int index) {
+        return matchers.get(index);
+    }
+
+    /**
+     * Get the order to evaluate the criteria
+     *
+     * @param cheapestFirst - true to order by the average evaluation time of the criteria type
+     * @return List of the criteria indexes
+     */
+    public List<Integer> getEvaluationOrder(boolean cheapestFirst) {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < size(); i++) {
+            order.add(i);
+        }
+
+        if (cheapestFirst) {
+            CriteriaStatistics statistics = CriteriaStatistics.getInstance();
+            order.sort(Comparator.comparingLong(i -> statistics.getAverageEvaluationTime(getCriteria(i).getCriteriaType())));
+        }
+
+        return order;
+    }
+
+    /**
+     * Evaluate the DOM based criteria using a single JavaScript execution if enabled
+     *
+     * @return Map of the criteria index to the result for each criteria that was evaluated
+     */
+    public Map<Integer, ResultInfo> batchEvaluate() {
+        if (!batchEvaluation || batchCriteriaEvaluator == null) {
+            return Collections.emptyMap();
+        }
+
+        return batchCriteriaEvaluator.evaluate();
+    }
+
+    /**
+     * @return null if neither batch evaluation nor event driven waits are enabled else BatchCriteriaEvaluator
+     */
+    public BatchCriteriaEvaluator getBatchCriteriaEvaluator() {
+        return batchCriteriaEvaluator;
+    }
+
+}
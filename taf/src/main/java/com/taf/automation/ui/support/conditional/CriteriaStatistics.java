@@ -0,0 +1,100 @@
+package com.taf.automation.ui.support.conditional;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stores (for the process) how long each criteria type takes to evaluate and how long it usually takes to match.
+ * This is used by Conditional to check cheap criteria first and by the AdaptivePollScheduler to determine the
+ * poll intervals.
+ */
+public class CriteriaStatistics {
+    private final Map<CriteriaType, Statistic> statistics;
+
+    private CriteriaStatistics() {
+        statistics = new EnumMap<>(CriteriaType.class);
+        for (CriteriaType type : CriteriaType.values()) {
+            statistics.put(type, new Statistic());
+        }
+    }
+
+    private static class LazyHolder {
+        private static final CriteriaStatistics INSTANCE = new CriteriaStatistics();
+    }
+
+    public static CriteriaStatistics getInstance() {
+        return CriteriaStatistics.LazyHolder.INSTANCE;
+    }
+
+    /**
+     * Thread safe counters for a criteria type
+     */
+    private static class Statistic {
+        private final AtomicLong evaluations = new AtomicLong();
+        private final AtomicLong evaluationNanos = new AtomicLong();
+        private final AtomicLong matches = new AtomicLong();
+        private final AtomicLong matchMillis = new AtomicLong();
+    }
+
+    /**
+     * Record the time it took to evaluate the criteria type once
+     *
+     * @param type  - Criteria Type
+     * @param nanos - Time (in nanoseconds) to evaluate
+     */
+    public void recordEvaluation(CriteriaType type, long nanos) {
+        Statistic statistic = statistics.get(type);
+        statistic.evaluations.incrementAndGet();
+        statistic.evaluationNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Record the time it took for the criteria type to match while waiting
+     *
+     * @param type   - Criteria Type
+     * @param millis - Time (in milliseconds) from the start of the wait until the match
+     */
+    public void recordMatch(CriteriaType type, long millis) {
+        Statistic statistic = statistics.get(type);
+        statistic.matches.incrementAndGet();
+        statistic.matchMillis.addAndGet(millis);
+    }
+
+    /**
+     * Get the average time to evaluate the criteria type
+     *
+     * @param type - Criteria Type
+     * @return 0 if no evaluations recorded else average time (in nanoseconds)
+     */
+    public long getAverageEvaluationTime(CriteriaType type) {
+        Statistic statistic = statistics.get(type);
+        long count = statistic.evaluations.get();
+        return (count == 0) ? 0 : statistic.evaluationNanos.get() / count;
+    }
+
+    /**
+     * Get the average time for the criteria type to match while waiting
+     *
+     * @param type - Criteria Type
+     * @return -1 if no matches recorded else average time (in milliseconds)
+     */
+    public long getAverageTimeToMatch(CriteriaType type) {
+        Statistic statistic = statistics.get(type);
+        long count = statistic.matches.get();
+        return (count == 0) ? -1 : statistic.matchMillis.get() / count;
+    }
+
+    /**
+     * Clear all the recorded statistics
+     */
+    public void reset() {
+        for (Statistic statistic : statistics.values()) {
+            statistic.evaluations.set(0);
+            statistic.evaluationNanos.set(0);
+            statistic.matches.set(0);
+            statistic.matchMillis.set(0);
+        }
+    }
+
+}
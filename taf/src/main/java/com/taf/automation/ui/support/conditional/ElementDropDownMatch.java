@@ -1,9 +1,16 @@
 package com.taf.automation.ui.support.conditional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
 
+import com.taf.automation.ui.support.util.Utils;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
 
@@ -11,10 +18,15 @@ import org.openqa.selenium.support.ui.Select;
  * Element Drop Down (that only allows a single selection) matching class
  */
 public class ElementDropDownMatch implements Match {
+    private static final String GET_SELECTED_OPTION = Utils.readResource("JS/GetSelectedOption.js");
+    private static final String TEXT = "text";
+    private static final String VALUE = "value";
+    private static final String INDEX = "index";
     private WebDriver driver;
     private Criteria criteria;
     private ResultInfo resultInfo;
     private ElementOptions elementOptions;
+    private Pattern regex;
 
     @Override
     public void setDriver(WebDriver driver) {
@@ -46,31 +58,17 @@ public class ElementDropDownMatch implements Match {
                 || criteria.getCriteriaType() == CriteriaType.DROPDOWN_HTML_DOES_NOT_CONTAIN
                 || criteria.getCriteriaType() == CriteriaType.DROPDOWN_HTML_CONTAINS) {
             try {
-                String valueVisibleText = null;
-                String valueHTML = null;
-                String valueIndex = null;
-
                 By locator = getOptions().getLocator();
                 WebElement element = driver.findElement(locator);
-                Select dropdown = new Select(element);
-                List<WebElement> options = dropdown.getOptions();
-                for (int i = 0; i < options.size(); i++) {
-                    // Find the 1st selected drop down option
-                    if (options.get(i).isSelected()) {
-                        valueVisibleText = options.get(i).getText();
-                        valueHTML = options.get(i).getAttribute("value");
-                        valueIndex = String.valueOf(i);
-                        break;
-                    }
-                }
+                Map<String, Object> selected = getSelectedOption(element);
 
                 String actual;
                 if (criteria.getCriteriaType() == CriteriaType.DROPDOWN_INDEX) {
-                    actual = valueIndex;
+                    actual = String.valueOf(selected.get(INDEX));
                 } else if (criteria.getCriteriaType().toString().startsWith("DROPDOWN_HTML_")) {
-                    actual = valueHTML;
+                    actual = (String) selected.get(VALUE);
                 } else {
-                    actual = valueVisibleText;
+                    actual = (String) selected.get(TEXT);
                 }
 
                 String expected = getOptions().getPattern().trim();
@@ -87,7 +85,7 @@ public class ElementDropDownMatch implements Match {
                 } else if (criteria.getCriteriaType() == CriteriaType.DROPDOWN_REGEX
                         || criteria.getCriteriaType() == CriteriaType.DROPDOWN_HTML_REGEX) {
                     // Regular Expression option
-                    match = actual.matches(expected);
+                    match = getRegex(expected).matcher(actual).matches();
                 } else if (criteria.getCriteriaType() == CriteriaType.DROPDOWN_NOT_EQUAL
                         || criteria.getCriteriaType() == CriteriaType.DROPDOWN_HTML_NOT_EQUAL) {
                     // Not Equal option
@@ -127,6 +125,41 @@ public class ElementDropDownMatch implements Match {
         return resultInfo;
     }
 
+    /**
+     * Get the 1st selected option using a single JavaScript execution.  If the JavaScript cannot be executed, then
+     * each option is checked using WebDriver.
+     *
+     * @param element - Drop down element
+     * @return Map with the text, value &amp; index of the 1st selected option
+     * @throws NullPointerException if no option is selected
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getSelectedOption(WebElement element) {
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                Map<String, Object> selected = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(GET_SELECTED_OPTION, element);
+                return Objects.requireNonNull(selected);
+            } catch (WebDriverException ignore) {
+                // Use WebDriver to check each option
+            }
+        }
+
+        Select dropdown = new Select(element);
+        List<WebElement> options = dropdown.getOptions();
+        for (int i = 0; i < options.size(); i++) {
+            // Find the 1st selected drop down option
+            if (options.get(i).isSelected()) {
+                Map<String, Object> selected = new HashMap<>();
+                selected.put(TEXT, options.get(i).getText());
+                selected.put(VALUE, options.get(i).getAttribute("value"));
+                selected.put(INDEX, i);
+                return selected;
+            }
+        }
+
+        throw new NullPointerException("No option is selected");
+    }
+
     /**
      * Get Options
      *
@@ -140,4 +173,18 @@ public class ElementDropDownMatch implements Match {
         return elementOptions;
     }
 
+    /**
+     * Get the compiled regular expression.  It is only compiled once as the match class is reused while waiting.
+     *
+     * @param expected - Regular expression
+     * @return Pattern
+     */
+    private Pattern getRegex(String expected) {
+        if (regex == null) {
+            regex = Pattern.compile(expected);
+        }
+
+        return regex;
+    }
+
 }
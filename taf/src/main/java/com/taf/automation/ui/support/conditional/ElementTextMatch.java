@@ -4,6 +4,8 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.util.regex.Pattern;
+
 /**
  * Element Text matching class
  */
@@ -12,6 +14,7 @@ public class ElementTextMatch implements Match {
     private Criteria criteria;
     private ResultInfo resultInfo;
     private ElementOptions elementOptions;
+    private Pattern regex;
 
     @Override
     public void setDriver(WebDriver driver) {
@@ -50,7 +53,7 @@ public class ElementTextMatch implements Match {
                     match = actual.equalsIgnoreCase(expected);
                 } else if (criteria.getCriteriaType() == CriteriaType.TEXT_REGEX) {
                     // Regular Expression option
-                    match = actual.matches(expected);
+                    match = getRegex(expected).matcher(actual).matches();
                 } else if (criteria.getCriteriaType() == CriteriaType.TEXT_NOT_EQUAL) {
                     // Not Equal option
                     match = !actual.equals(expected);
@@ -101,4 +104,18 @@ public class ElementTextMatch implements Match {
         return elementOptions;
     }
 
+    /**
+     * Get the compiled regular expression.  It is only compiled once as the match class is reused while waiting.
+     *
+     * @param expected - Regular expression
+     * @return Pattern
+     */
+    private Pattern getRegex(String expected) {
+        if (regex == null) {
+            regex = Pattern.compile(expected);
+        }
+
+        return regex;
+    }
+
 }
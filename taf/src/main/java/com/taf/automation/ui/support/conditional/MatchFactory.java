@@ -1,6 +1,75 @@
 package com.taf.automation.ui.support.conditional;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
 public class MatchFactory {
+    private static final Map<CriteriaType, Supplier<Match>> MATCHES = new EnumMap<>(CriteriaType.class);
+
+    static {
+        register(AlertMatch::new, CriteriaType.ALERT);
+        register(ElementReadyMatch::new, CriteriaType.READY);
+        register(ElementDisplayedMatch::new, CriteriaType.DISPLAYED);
+        register(ElementRemovedMatch::new, CriteriaType.REMOVED);
+        register(ElementEnabledMatch::new, CriteriaType.ENABLED);
+        register(ElementDisabledMatch::new, CriteriaType.DISABLED);
+        register(ElementExistsMatch::new, CriteriaType.EXISTS);
+        register(ElementSelectedMatch::new, CriteriaType.SELECTED);
+        register(ElementUnselectedMatch::new, CriteriaType.UNSELECTED);
+        register(ElementStaleMatch::new, CriteriaType.STALE);
+        register(ElementTextMatch::new,
+                CriteriaType.TEXT_EQUALS,
+                CriteriaType.TEXT_EQUALS_IGNORE_CASE,
+                CriteriaType.TEXT_REGEX,
+                CriteriaType.TEXT_NOT_EQUAL,
+                CriteriaType.TEXT_DOES_NOT_CONTAIN,
+                CriteriaType.TEXT_CONTAINS);
+        register(URL_Match::new,
+                CriteriaType.URL_EQUALS,
+                CriteriaType.URL_EQUALS_IGNORE_CASE,
+                CriteriaType.URL_REGEX,
+                CriteriaType.URL_NOT_EQUAL,
+                CriteriaType.URL_DOES_NOT_CONTAIN,
+                CriteriaType.URL_CONTAINS);
+        register(ElementAttributeMatch::new,
+                CriteriaType.ATTRIBUTE_EQUALS,
+                CriteriaType.ATTRIBUTE_EQUALS_IGNORE_CASE,
+                CriteriaType.ATTRIBUTE_REGEX,
+                CriteriaType.ATTRIBUTE_NOT_EQUAL,
+                CriteriaType.ATTRIBUTE_DOES_NOT_CONTAIN,
+                CriteriaType.ATTRIBUTE_CONTAINS);
+        register(PopupMatch::new, CriteriaType.POPUP);
+        register(ElementDropDownMatch::new,
+                CriteriaType.DROPDOWN_EQUALS,
+                CriteriaType.DROPDOWN_EQUALS_IGNORE_CASE,
+                CriteriaType.DROPDOWN_REGEX,
+                CriteriaType.DROPDOWN_NOT_EQUAL,
+                CriteriaType.DROPDOWN_DOES_NOT_CONTAIN,
+                CriteriaType.DROPDOWN_CONTAINS,
+                CriteriaType.DROPDOWN_INDEX,
+                CriteriaType.DROPDOWN_HTML_EQUALS,
+                CriteriaType.DROPDOWN_HTML_EQUALS_IGNORE_CASE,
+                CriteriaType.DROPDOWN_HTML_REGEX,
+                CriteriaType.DROPDOWN_HTML_NOT_EQUAL,
+                CriteriaType.DROPDOWN_HTML_DOES_NOT_CONTAIN,
+                CriteriaType.DROPDOWN_HTML_CONTAINS);
+        register(ElementReadyRelativeToMatch::new, CriteriaType.RELATIVE_READY);
+        register(NumberOfElementsMatch::new,
+                CriteriaType.ELEMENTS_EQUAL,
+                CriteriaType.ELEMENTS_RANGE,
+                CriteriaType.ELEMENTS_LESS_THAN,
+                CriteriaType.ELEMENTS_MORE_THAN);
+        register(LambdaExpressionMatch::new, CriteriaType.LAMBDA_EXPRESSION);
+        register(ExpectedConditionsMatch::new, CriteriaType.EXPECTED_CONDITIONS);
+    }
+
+    private static void register(Supplier<Match> match, CriteriaType... types) {
+        for (CriteriaType type : types) {
+            MATCHES.put(type, match);
+        }
+    }
+
     /**
      * Based on criteria return appropriate match class
      *
@@ -11,77 +80,14 @@ public class MatchFactory {
     public Match getMatch(Criteria criteria) {
         if (criteria == null || criteria.getCriteriaType() == null) {
             throw new RuntimeException("Cannot get Match class for null");
-        } else if (criteria.getCriteriaType() == CriteriaType.ALERT) {
-            return new AlertMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.READY) {
-            return new ElementReadyMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.DISPLAYED) {
-            return new ElementDisplayedMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.REMOVED) {
-            return new ElementRemovedMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.ENABLED) {
-            return new ElementEnabledMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.DISABLED) {
-            return new ElementDisabledMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.EXISTS) {
-            return new ElementExistsMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.SELECTED) {
-            return new ElementSelectedMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.UNSELECTED) {
-            return new ElementUnselectedMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.STALE) {
-            return new ElementStaleMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.TEXT_EQUALS
-                || criteria.getCriteriaType() == CriteriaType.TEXT_EQUALS_IGNORE_CASE
-                || criteria.getCriteriaType() == CriteriaType.TEXT_REGEX
-                || criteria.getCriteriaType() == CriteriaType.TEXT_NOT_EQUAL
-                || criteria.getCriteriaType() == CriteriaType.TEXT_DOES_NOT_CONTAIN
-                || criteria.getCriteriaType() == CriteriaType.TEXT_CONTAINS) {
-            return new ElementTextMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.URL_EQUALS
-                || criteria.getCriteriaType() == CriteriaType.URL_EQUALS_IGNORE_CASE
-                || criteria.getCriteriaType() == CriteriaType.URL_REGEX
-                || criteria.getCriteriaType() == CriteriaType.URL_NOT_EQUAL
-                || criteria.getCriteriaType() == CriteriaType.URL_DOES_NOT_CONTAIN
-                || criteria.getCriteriaType() == CriteriaType.URL_CONTAINS) {
-            return new URL_Match();
-        } else if (criteria.getCriteriaType() == CriteriaType.ATTRIBUTE_EQUALS
-                || criteria.getCriteriaType() == CriteriaType.ATTRIBUTE_EQUALS_IGNORE_CASE
-                || criteria.getCriteriaType() == CriteriaType.ATTRIBUTE_REGEX
-                || criteria.getCriteriaType() == CriteriaType.ATTRIBUTE_NOT_EQUAL
-                || criteria.getCriteriaType() == CriteriaType.ATTRIBUTE_DOES_NOT_CONTAIN
-                || criteria.getCriteriaType() == CriteriaType.ATTRIBUTE_CONTAINS) {
-            return new ElementAttributeMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.POPUP) {
-            return new PopupMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.DROPDOWN_EQUALS
-                || criteria.getCriteriaType() == CriteriaType.DROPDOWN_EQUALS_IGNORE_CASE
-                || criteria.getCriteriaType() == CriteriaType.DROPDOWN_REGEX
-                || criteria.getCriteriaType() == CriteriaType.DROPDOWN_NOT_EQUAL
-                || criteria.getCriteriaType() == CriteriaType.DROPDOWN_DOES_NOT_CONTAIN
-                || criteria.getCriteriaType() == CriteriaType.DROPDOWN_CONTAINS
-                || criteria.getCriteriaType() == CriteriaType.DROPDOWN_INDEX
-                || criteria.getCriteriaType() == CriteriaType.DROPDOWN_HTML_EQUALS
-                || criteria.getCriteriaType() == CriteriaType.DROPDOWN_HTML_EQUALS_IGNORE_CASE
-                || criteria.getCriteriaType() == CriteriaType.DROPDOWN_HTML_REGEX
-                || criteria.getCriteriaType() == CriteriaType.DROPDOWN_HTML_NOT_EQUAL
-                || criteria.getCriteriaType() == CriteriaType.DROPDOWN_HTML_DOES_NOT_CONTAIN
-                || criteria.getCriteriaType() == CriteriaType.DROPDOWN_HTML_CONTAINS) {
-            return new ElementDropDownMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.RELATIVE_READY) {
-            return new ElementReadyRelativeToMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.ELEMENTS_EQUAL
-                || criteria.getCriteriaType() == CriteriaType.ELEMENTS_RANGE
-                || criteria.getCriteriaType() == CriteriaType.ELEMENTS_LESS_THAN
-                || criteria.getCriteriaType() == CriteriaType.ELEMENTS_MORE_THAN) {
-            return new NumberOfElementsMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.LAMBDA_EXPRESSION) {
-            return new LambdaExpressionMatch();
-        } else if (criteria.getCriteriaType() == CriteriaType.EXPECTED_CONDITIONS) {
-            return new ExpectedConditionsMatch();
         }
 
-        throw new RuntimeException("Unsupported criteria type:  " + criteria.getCriteriaType());
+        Supplier<Match> match = MATCHES.get(criteria.getCriteriaType());
+        if (match == null) {
+            throw new RuntimeException("Unsupported criteria type:  " + criteria.getCriteriaType());
+        }
+
+        return match.get();
     }
 
 }
@@ -48,7 +48,7 @@ public class NumberOfElementsMatch implements Match {
             }
 
             if (criteria.getCriteriaType() == CriteriaType.ELEMENTS_RANGE) {
-                found = getOptions().getMin() >= elements.size() && elements.size() <= getOptions().getMax();
+                found = getOptions().getMin() <= elements.size() && elements.size() <= getOptions().getMax();
             }
 
             if (criteria.getCriteriaType() == CriteriaType.ELEMENTS_LESS_THAN) {
@@ -2,6 +2,8 @@ package com.taf.automation.ui.support.conditional;
 
 import org.openqa.selenium.WebDriver;
 
+import java.util.regex.Pattern;
+
 /**
  * URL matching class
  */
@@ -10,6 +12,7 @@ public class URL_Match implements Match {
     private Criteria criteria;
     private ResultInfo resultInfo;
     private ElementOptions elementOptions;
+    private Pattern regex;
 
     @Override
     public void setDriver(WebDriver driver) {
@@ -46,7 +49,7 @@ public class URL_Match implements Match {
                     match = actual.equalsIgnoreCase(expected);
                 } else if (criteria.getCriteriaType() == CriteriaType.URL_REGEX) {
                     // Regular Expression option
-                    match = actual.matches(expected);
+                    match = getRegex(expected).matcher(actual).matches();
                 } else if (criteria.getCriteriaType() == CriteriaType.URL_NOT_EQUAL) {
                     // Not Equal option
                     match = !actual.equals(expected);
@@ -96,4 +99,18 @@ public class URL_Match implements Match {
         return elementOptions;
     }
 
+    /**
+     * Get the compiled regular expression.  It is only compiled once as the match class is reused while waiting.
+     *
+     * @param expected - Regular expression
+     * @return Pattern
+     */
+    private Pattern getRegex(String expected) {
+        if (regex == null) {
+            regex = Pattern.compile(expected);
+        }
+
+        return regex;
+    }
+
 }
@@ -0,0 +1,117 @@
+package com.taf.automation.ui.support.converters;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.regex.Pattern;
+
+public class HarCaptureRule {
+    private static final String SEPARATOR = ";";
+    private Capture capture;
+    private Pattern host;
+    private Pattern path;
+    private Pattern contentType;
+    private long maxBodySize;
+
+    /**
+     * What is kept in the Har entry for the requests that match the rule
+     */
+    public enum Capture {
+        /**
+         * Only the request line, response status, sizes &amp; timings
+         */
+        NONE,
+        /**
+         * Headers &amp; cookies without the request &amp; response bodies
+         */
+        HEADERS,
+        /**
+         * Headers, cookies &amp; the request &amp; response bodies
+         */
+        BODY
+    }
+
+    /**
+     * Constructor to take the formatted string and initialize the object<BR>
+     * <B>Format: </B> CAPTURE;HOST;PATH;CONTENT_TYPE;MAX_BODY_SIZE<BR>
+     * <B>Notes:</B>
+     * <UL>
+     * <LI>CAPTURE is NONE, HEADERS or BODY</LI>
+     * <LI>HOST is the regular expression the request host must match (empty to match any host)</LI>
+     * <LI>PATH is the regular expression the request path must match (empty to match any path)</LI>
+     * <LI>CONTENT_TYPE is the regular expression the response content type must match (empty to match any)</LI>
+     * <LI>MAX_BODY_SIZE is the max size of the body to keep for BODY (empty or 0 for unlimited).  Larger bodies are
+     * only captured as HEADERS</LI>
+     * <LI>Trailing fields can be omitted &amp; the regular expressions cannot contain a comma or semicolon</LI>
+     * </UL>
+     *
+     * @param rule - String that contains the Har Capture Rule
+     */
+    public HarCaptureRule(String rule) {
+        String[] fields = rule.split(SEPARATOR, -1);
+        capture = Capture.valueOf(fields[0].trim().toUpperCase());
+        host = toPattern(fields, 1);
+        path = toPattern(fields, 2);
+        contentType = toPattern(fields, 3);
+        maxBodySize = (fields.length > 4 && StringUtils.isNotBlank(fields[4])) ? Long.parseLong(fields[4].trim()) : 0;
+    }
+
+    private static Pattern toPattern(String[] fields, int index) {
+        if (fields.length <= index || StringUtils.isBlank(fields[index])) {
+            return null;
+        }
+
+        return Pattern.compile(fields[index].trim(), Pattern.CASE_INSENSITIVE);
+    }
+
+    /**
+     * Check if the rule applies to the request &amp; response
+     *
+     * @param requestHost         - Request Host
+     * @param requestPath         - Request Path
+     * @param responseContentType - Response Content Type (null if not known)
+     * @return true if the rule matches
+     */
+    public boolean matches(String requestHost, String requestPath, String responseContentType) {
+        return matchesRequest(requestHost, requestPath) && matches(contentType, responseContentType);
+    }
+
+    /**
+     * Check if the rule applies to the request without the response (content type)
+     *
+     * @param requestHost - Request Host
+     * @param requestPath - Request Path
+     * @return true if the rule matches the request
+     */
+    public boolean matchesRequest(String requestHost, String requestPath) {
+        return matches(host, requestHost) && matches(path, requestPath);
+    }
+
+    /**
+     * @return true if the response content type is necessary to determine if the rule applies
+     */
+    public boolean isContentTypeNecessary() {
+        return contentType != null;
+    }
+
+    private static boolean matches(Pattern pattern, String value) {
+        return pattern == null || pattern.matcher(StringUtils.defaultString(value)).matches();
+    }
+
+    public Capture getCapture() {
+        return capture;
+    }
+
+    public long getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    @Override
+    public String toString() {
+        return capture
+                + SEPARATOR + ((host == null) ? "" : host.pattern())
+                + SEPARATOR + ((path == null) ? "" : path.pattern())
+                + SEPARATOR + ((contentType == null) ? "" : contentType.pattern())
+                + SEPARATOR + maxBodySize;
+    }
+
+}
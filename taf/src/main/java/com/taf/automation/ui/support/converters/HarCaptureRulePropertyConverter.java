@@ -0,0 +1,22 @@
+package com.taf.automation.ui.support.converters;
+
+import org.apache.commons.beanutils.Converter;
+import org.apache.commons.lang3.StringUtils;
+
+public class HarCaptureRulePropertyConverter implements Converter {
+    @Override
+    public Object convert(Class aClass, Object obj) {
+        if (!(obj instanceof String) || StringUtils.isBlank((String) obj)) {
+            return null;
+        }
+
+        String[] items = ((String) obj).split(",");
+        HarCaptureRule[] rules = new HarCaptureRule[items.length];
+        for (int i = 0; i < items.length; i++) {
+            rules[i] = new HarCaptureRule(items[i]);
+        }
+
+        return rules;
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.taf.automation.ui.support.converters;
+
+import com.taf.automation.ui.support.HarMetrics.Metric;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.regex.Pattern;
+
+public class NetworkBudget {
+    private static final String SEPARATOR = ";";
+    private Metric metric;
+    private int percentile;
+    private long max;
+    private Pattern endpoint;
+
+    /**
+     * Constructor to take the formatted string and initialize the object<BR>
+     * <B>Format: </B> METRIC;PERCENTILE;MAX;ENDPOINT<BR>
+     * <B>Notes:</B>
+     * <UL>
+     * <LI>METRIC is DNS, CONNECT, SSL, WAIT, RECEIVE, TIME (milliseconds), SIZE (bytes) or REQUESTS (count)</LI>
+     * <LI>PERCENTILE is the percentile (1 to 100) of the metric to check (ignored for REQUESTS)</LI>
+     * <LI>MAX is the max allowed value</LI>
+     * <LI>ENDPOINT is the regular expression the endpoints (METHOD HOST/PATH) must match for the budget to be checked
+     * for each endpoint.  If omitted, then the budget is checked against all the requests of the test method.</LI>
+     * <LI>The regular expression cannot contain a comma or semicolon</LI>
+     * </UL>
+     *
+     * @param budget - String that contains the Network Budget
+     */
+    public NetworkBudget(String budget) {
+        String[] fields = budget.split(SEPARATOR, -1);
+        metric = Metric.valueOf(fields[0].trim().toUpperCase());
+        percentile = Integer.parseInt(fields[1].trim());
+        max = Long.parseLong(fields[2].trim());
+        endpoint = (fields.length > 3 && StringUtils.isNotBlank(fields[3])) ? Pattern.compile(fields[3].trim()) : null;
+    }
+
+    public Metric getMetric() {
+        return metric;
+    }
+
+    public int getPercentile() {
+        return percentile;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return null if the budget is for all the requests else the pattern of the endpoints the budget is for
+     */
+    public Pattern getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public String toString() {
+        return metric + SEPARATOR + percentile + SEPARATOR + max + SEPARATOR + ((endpoint == null) ? "" : endpoint.pattern());
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.taf.automation.ui.support.converters;
+
+import org.apache.commons.beanutils.Converter;
+import org.apache.commons.lang3.StringUtils;
+
+public class NetworkBudgetPropertyConverter implements Converter {
+    @Override
+    public Object convert(Class aClass, Object obj) {
+        if (!(obj instanceof String) || StringUtils.isBlank((String) obj)) {
+            return null;
+        }
+
+        String[] items = ((String) obj).split(",");
+        NetworkBudget[] budgets = new NetworkBudget[items.length];
+        for (int i = 0; i < items.length; i++) {
+            budgets[i] = new NetworkBudget(items[i]);
+        }
+
+        return budgets;
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.taf.automation.ui.support.csv;
+
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Data Provider iterator that parses the CSV records on demand.  Records that do not match the filter are
+ * skipped while parsing such that the test data is never created for them.  The parser is closed once all the
+ * records have been read.
+ */
+public class CsvDataIterator implements Iterator<Object[]>, Closeable {
+    private CSVParser parser;
+    private Iterator<CSVRecord> records;
+    private Predicate<CSVRecord> filter;
+    private Map<String, Integer> aliases;
+    private Object[] next;
+
+    /**
+     * Constructor
+     *
+     * @param parser - Parser that has been initialized with the header
+     * @param filter - Filter to determine which records to return, null to return all records
+     */
+    public CsvDataIterator(CSVParser parser, Predicate<CSVRecord> filter) {
+        this.parser = parser;
+        this.filter = (filter == null) ? record -> true : filter;
+        aliases = CsvUtils.getAliasHeaders(parser.getHeaderMap());
+        records = parser.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && records.hasNext()) {
+            CSVRecord record = records.next();
+            if (filter.test(record)) {
+                next = new Object[]{new CsvTestData(record, aliases)};
+            }
+        }
+
+        if (next == null) {
+            close();
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Object[] current = next;
+        next = null;
+        return current;
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException ignore) {
+            //
+        }
+    }
+
+}
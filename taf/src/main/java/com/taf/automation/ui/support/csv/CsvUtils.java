@@ -32,15 +32,18 @@ import ui.auto.core.pagecomponent.PageComponent;
 
 import java.io.FileInputStream;
 import java.io.FileWriter;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -86,10 +89,7 @@ public class CsvUtils {
      */
     public static void read(String resourceFilePath, List<CSVRecord> records, Map<String, Integer> headers) {
         try {
-            InputStream in = openInputStream(resourceFilePath);
-            InputStreamReader reader = new InputStreamReader(in);
-            CSVFormat csvFileFormat = CSVFormat.EXCEL.withHeader();
-            CSVParser csvFileParser = new CSVParser(reader, csvFileFormat);
+            CSVParser csvFileParser = openParser(resourceFilePath);
             headers.putAll(csvFileParser.getHeaderMap());
             records.addAll(csvFileParser.getRecords());
         } catch (Exception ex) {
@@ -97,6 +97,36 @@ public class CsvUtils {
         }
     }
 
+    /**
+     * Open a parser (that has read the header) on the specified resource
+     *
+     * @param resourceFilePath - Resource File Path (or actual file system path) to the CSV file to read
+     * @return CSVParser
+     * @throws IOException if the parser cannot read the header
+     */
+    private static CSVParser openParser(String resourceFilePath) throws IOException {
+        InputStream in = openInputStream(resourceFilePath);
+        InputStreamReader reader = new InputStreamReader(in);
+        CSVFormat csvFileFormat = CSVFormat.EXCEL.withHeader();
+        return new CSVParser(reader, csvFileFormat);
+    }
+
+    /**
+     * Get a filter for the records that are set to run
+     *
+     * @param runColumnName - If value is not blank,
+     *                      then filter for the records that are set to run using the specific column name
+     *                      else all records match
+     * @return Predicate&lt;CSVRecord&gt;
+     */
+    public static Predicate<CSVRecord> getRunFilter(String runColumnName) {
+        if (StringUtils.isBlank(runColumnName)) {
+            return record -> true;
+        }
+
+        return record -> BooleanUtils.toBoolean(record.get(runColumnName));
+    }
+
     /**
      * Get all the aliases from the CSV header row
      *
@@ -405,22 +435,44 @@ public class CsvUtils {
      */
     public static List<Object[]> dataProvider(String csvDataSet, String runColumnName) {
         List<Object[]> tests = new ArrayList<>();
+        lazyDataProvider(csvDataSet, getRunFilter(runColumnName)).forEachRemaining(tests::add);
+        return tests;
+    }
 
-        List<CSVRecord> records = new ArrayList<>();
-        Map<String, Integer> headers = new HashMap<>();
-        read(csvDataSet, records, headers);
-        Map<String, Integer> aliases = getAliasHeaders(headers);
+    /**
+     * Generic Data Provider for CSV files that parses the records on demand<BR>
+     * <B>Note: </B> This is recommended for large CSV files as the tests can start immediately and only the
+     * records that are set to run are kept in memory.
+     *
+     * @param csvDataSet    - CSV Data Set location
+     * @param runColumnName - If value is not blank,
+     *                      then skips all the records that are not set to run using the specific column name
+     *                      else no records are skipped
+     * @return Iterator&lt;Object[]&gt;
+     */
+    public static Iterator<Object[]> lazyDataProvider(String csvDataSet, String runColumnName) {
+        return lazyDataProvider(csvDataSet, getRunFilter(runColumnName));
+    }
 
-        for (CSVRecord record : records) {
-            tests.add(new Object[]{new CsvTestData(record, aliases)});
-        }
+    /**
+     * Generic Data Provider for CSV files that parses the records on demand<BR>
+     * <B>Note: </B> This is recommended for large CSV files as the tests can start immediately and only the
+     * records that match the filter are kept in memory.
+     *
+     * @param csvDataSet - CSV Data Set location
+     * @param filter     - Filter to determine which records are returned, null to return all records
+     * @return Iterator&lt;Object[]&gt;
+     */
+    public static Iterator<Object[]> lazyDataProvider(String csvDataSet, Predicate<CSVRecord> filter) {
+        CSVParser csvFileParser = null;
 
-        if (StringUtils.isNotBlank(runColumnName)) {
-            // Remove any record that is not set to run
-            tests.removeIf(data -> !BooleanUtils.toBoolean(((CsvTestData) data[0]).getRecord().get(runColumnName)));
+        try {
+            csvFileParser = openParser(csvDataSet);
+        } catch (Exception ex) {
+            assertThat("Could not read records from CSV file due to error:  " + ex.getMessage(), false);
         }
 
-        return tests;
+        return new CsvDataIterator(csvFileParser, filter);
     }
 
     /**
@@ -443,14 +495,13 @@ public class CsvUtils {
         Map<String, Integer> headers = new HashMap<>();
         FilloUtils.read(excelDataSet, workSheet, records, headers);
         Map<String, Integer> aliases = getAliasHeaders(headers);
+        Predicate<CSVRecord> runFilter = getRunFilter(runColumnName);
 
         for (CSVRecord record : records) {
-            tests.add(new Object[]{new CsvTestData(record, aliases)});
-        }
-
-        if (StringUtils.isNotBlank(runColumnName)) {
-            // Remove any record that is not set to run
-            tests.removeIf(data -> !BooleanUtils.toBoolean(((CsvTestData) data[0]).getRecord().get(runColumnName)));
+            // Skip any record that is not set to run
+            if (runFilter.test(record)) {
+                tests.add(new Object[]{new CsvTestData(record, aliases)});
+            }
         }
 
         return tests;
@@ -517,16 +568,14 @@ public class CsvUtils {
             String dataSetParameter,
             String runColumnName
     ) {
-        List<Object[]> all = new ArrayList<>();
-
         // Note: This method is run before all tests in this class as such only read csv if specified
         // which should only be with data provider
         if (useCsvParameter != null && BooleanUtils.toBoolean(getCsvDataSetFromParameter(injectedContext, useCsvParameter))) {
             String csvDataSet = getCsvDataSetFromParameter(injectedContext, dataSetParameter);
-            all = dataProvider(csvDataSet, runColumnName);
+            return lazyDataProvider(csvDataSet, runColumnName);
         }
 
-        return all.iterator();
+        return Collections.emptyIterator();
     }
 
     /**
@@ -9,6 +9,7 @@ import com.taf.automation.ui.support.util.Utils;
 import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import datainstiller.data.DataPersistence;
+import org.apache.commons.jexl3.JexlContext;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
@@ -209,8 +210,8 @@ public class ExtractedWorkflowData extends DataPersistenceV2 {
     }
 
     @Override
-    public XStream getXstream() {
-        XStream xStream = super.getXstream();
+    protected XStream createXstream(JexlContext jexlContext) {
+        XStream xStream = super.createXstream(jexlContext);
         xStream.alias("extractedWorkflowData", ExtractedWorkflowData.class);
         xStream.alias("page", ExtractedPageData.class);
         xStream.alias("table", ExtractedTableData.class);
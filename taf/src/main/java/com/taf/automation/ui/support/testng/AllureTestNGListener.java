@@ -30,8 +30,27 @@ public class AllureTestNGListener extends AllureTestListener {
         }
     }
 
+    @Override
+    public void onFinish(ITestContext iTestContext) {
+        if (TestProperties.getInstance().isAttachmentAsync()) {
+            AttachmentWriter.getInstance().flushAll();
+        }
+
+        super.onFinish(iTestContext);
+    }
+
+    /**
+     * Wait for the attachments of the test being written on the background thread
+     */
+    private void flushAttachments() {
+        if (TestProperties.getInstance().isAttachmentAsync()) {
+            AttachmentWriter.getInstance().flush();
+        }
+    }
+
     @Override
     public void onTestSuccess(ITestResult iTestResult) {
+        flushAttachments();
         super.onTestSuccess(iTestResult);
         if (iTestResult.getMethod().getRetryAnalyzer() != null) {
             // Workaround issue with retries in the TestNG logic added in 6.12
@@ -46,6 +65,7 @@ public class AllureTestNGListener extends AllureTestListener {
         Allure.LIFECYCLE.fire(new TestCaseFailureEvent().withThrowable(iTestResult.getThrowable()));
         TestNGBaseWithoutListeners.takeScreenshot("Failed Test Screenshot");
         TestNGBaseWithoutListeners.takeHTML("Failed Test HTML Source");
+        flushAttachments();
         Allure.LIFECYCLE.fire(new TestCaseFinishedEvent());
     }
 
@@ -72,6 +92,7 @@ public class AllureTestNGListener extends AllureTestListener {
         }
 
         fireTestCaseCancel(iTestResult);
+        flushAttachments();
         Allure.LIFECYCLE.fire(new TestCaseFinishedEvent());
     }
 
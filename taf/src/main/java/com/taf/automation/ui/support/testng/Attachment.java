@@ -1,5 +1,6 @@
 package com.taf.automation.ui.support.testng;
 
+import com.taf.automation.ui.support.TestProperties;
 import ru.yandex.qatools.allure.Allure;
 import ru.yandex.qatools.allure.events.MakeAttachmentEvent;
 
@@ -66,9 +67,15 @@ public class Attachment {
     }
 
     /**
-     * Use the data of the class to add an attachment to the Allure report
+     * Use the data of the class to add an attachment to the Allure report<BR>
+     * <B>Note: </B> If asynchronous attachments are enabled, then the file is written on a background thread<BR>
      */
     public void build() {
+        if (TestProperties.getInstance().isAttachmentAsync() && getType() != null && getFile() != null) {
+            AttachmentWriter.getInstance().write(this);
+            return;
+        }
+
         MakeAttachmentEvent ev = new MakeAttachmentEvent(getFile(), getTitle(), getType());
         Allure.LIFECYCLE.fire(ev);
     }
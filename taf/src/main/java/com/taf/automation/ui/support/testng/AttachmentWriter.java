@@ -0,0 +1,216 @@
+package com.taf.automation.ui.support.testng;
+
+import com.taf.automation.ui.support.TestProperties;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.yandex.qatools.allure.Allure;
+import ru.yandex.qatools.allure.events.StepEvent;
+import ru.yandex.qatools.allure.model.Step;
+import ru.yandex.qatools.allure.utils.AllureResultsUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the attachment files for the Allure report on a background thread such that the test does not wait on
+ * the file I/O.  The attachment is still added to the current step on the test thread.<BR>
+ * <B>Notes: </B>
+ * <OL>
+ * <LI>The queue is bounded.  If the queue is full, then the attachment is written on the test thread.</LI>
+ * <LI>Identical attachments (same content &amp; type) are only written once and the file is re-used.</LI>
+ * <LI>Large text attachments can be compressed (gzip) and are downloaded from the report.</LI>
+ * <LI>The AllureTestNGListener flushes the pending attachments of the test thread when each test finishes and
+ * all the pending attachments when the suite finishes.</LI>
+ * </OL>
+ */
+public class AttachmentWriter {
+    private static final Logger LOG = LoggerFactory.getLogger(AttachmentWriter.class);
+    private static final String ATTACHMENT_SUFFIX = "-attachment";
+    private static final String GZIP = "application/gzip";
+    private static final Map<String, String> EXTENSIONS = new HashMap<>();
+    private final ExecutorService executor;
+    private final Map<String, String> written;
+    private final Map<Long, AtomicInteger> pending;
+    private final Object lock;
+
+    static {
+        EXTENSIONS.put("text/plain", ".txt");
+        EXTENSIONS.put("text/html", ".html");
+        EXTENSIONS.put("text/xml", ".xml");
+        EXTENSIONS.put("application/xml", ".xml");
+        EXTENSIONS.put("application/json", ".json");
+        EXTENSIONS.put("text/csv", ".csv");
+        EXTENSIONS.put("image/png", ".png");
+        EXTENSIONS.put("image/jpeg", ".jpg");
+        EXTENSIONS.put(GZIP, ".gz");
+    }
+
+    private AttachmentWriter() {
+        written = new ConcurrentHashMap<>();
+        pending = new ConcurrentHashMap<>();
+        lock = new Object();
+        executor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(TestProperties.getInstance().getAttachmentQueueSize(), 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "allure-attachment-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    private static class LazyHolder {
+        private static final AttachmentWriter INSTANCE = new AttachmentWriter();
+    }
+
+    public static AttachmentWriter getInstance() {
+        return AttachmentWriter.LazyHolder.INSTANCE;
+    }
+
+    /**
+     * Adds the attachment to the current step and queues the file to be written.  The compression, hashing &amp;
+     * writing of the file are done on the background thread.  As such, the attachment of the step is only
+     * completed (source &amp; size) once the file is written.
+     *
+     * @param attachment - Attachment to be added to the Allure report
+     */
+    public void write(Attachment attachment) {
+        byte[] file = attachment.getFile();
+        int threshold = TestProperties.getInstance().getAttachmentCompressThreshold();
+        boolean compress = isCompress(attachment.getType(), file, threshold);
+        ru.yandex.qatools.allure.model.Attachment model = new ru.yandex.qatools.allure.model.Attachment()
+                .withTitle(compress ? attachment.getTitle() + ".gz" : attachment.getTitle())
+                .withType(compress ? GZIP : attachment.getType())
+                .withSize(file.length);
+        Allure.LIFECYCLE.fire((StepEvent) (Step context) -> context.getAttachments().add(model));
+        queue(() -> {
+            byte[] data = file;
+            if (compress) {
+                data = compress(file);
+                if (data == null) {
+                    data = file;
+                    model.setTitle(attachment.getTitle());
+                    model.setType(attachment.getType());
+                }
+            }
+
+            save(model, data);
+        });
+    }
+
+    /**
+     * Write the file unless an identical file was already written &amp; update the attachment with the file
+     *
+     * @param model - Attachment of the step
+     * @param file  - File to be written
+     */
+    private void save(ru.yandex.qatools.allure.model.Attachment model, byte[] file) {
+        String hash = model.getType() + ":" + DigestUtils.sha256Hex(file);
+        String newSource = UUID.randomUUID().toString() + ATTACHMENT_SUFFIX + EXTENSIONS.getOrDefault(model.getType(), "");
+        String source = written.putIfAbsent(hash, newSource);
+        model.setSize(file.length);
+        if (source != null) {
+            model.setSource(source);
+            return;
+        }
+
+        model.setSource(newSource);
+        File target = new File(AllureResultsUtils.getResultsDirectory(), newSource);
+        try {
+            FileUtils.writeByteArrayToFile(target, file);
+        } catch (Exception ex) {
+            LOG.warn("Could not write attachment (" + target + "):  " + ex.getMessage());
+        }
+    }
+
+    private static boolean isCompress(String type, byte[] file, int threshold) {
+        return threshold > 0
+                && file.length >= threshold
+                && (StringUtils.startsWith(type, "text/") || StringUtils.endsWithAny(type, "/xml", "/json"));
+    }
+
+    private static byte[] compress(byte[] file) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(file);
+        } catch (IOException ex) {
+            LOG.warn("Could not compress attachment:  " + ex.getMessage());
+            return null;
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Queue the task such that it is tracked as pending for the current thread (test) until it completes
+     *
+     * @param task - Task to write the attachment
+     */
+    private void queue(Runnable task) {
+        AtomicInteger count = pending.computeIfAbsent(Thread.currentThread().getId(), key -> new AtomicInteger());
+        count.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception ex) {
+                LOG.warn("Could not write attachment:  " + ex.getMessage());
+            } finally {
+                count.decrementAndGet();
+                synchronized (lock) {
+                    lock.notifyAll();
+                }
+            }
+        });
+    }
+
+    /**
+     * Wait for the attachments queued by the current thread (test) to be written
+     */
+    public void flush() {
+        AtomicInteger count = pending.get(Thread.currentThread().getId());
+        if (count != null) {
+            waitFor(() -> count.get() > 0);
+        }
+    }
+
+    /**
+     * Wait for all the queued attachments to be written
+     */
+    public void flushAll() {
+        waitFor(() -> pending.values().stream().anyMatch(count -> count.get() > 0));
+    }
+
+    private void waitFor(BooleanSupplier isPending) {
+        synchronized (lock) {
+            while (isPending.getAsBoolean()) {
+                try {
+                    lock.wait(100);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+}
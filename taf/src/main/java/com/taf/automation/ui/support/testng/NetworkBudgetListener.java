@@ -0,0 +1,88 @@
+package com.taf.automation.ui.support.testng;
+
+import com.taf.automation.ui.support.HarMetrics;
+import com.taf.automation.ui.support.HarStreamWriter;
+import com.taf.automation.ui.support.TestProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Listener to fail the test method if any network budget was exceeded.<BR>
+ * <B>Note: </B> This is done right after the test method is invoked (before the test listeners are notified) such
+ * that the reports &amp; retry analyzers see the test failure.
+ */
+public class NetworkBudgetListener implements IInvokedMethodListener {
+    private static final Logger LOG = LoggerFactory.getLogger(NetworkBudgetListener.class);
+    static final String CHECKED = "networkBudgetsChecked";
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        // Nothing to do before the test method
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+
+        testResult.setAttribute(CHECKED, true);
+        List<String> violations = checkNetworkMetrics();
+        if (!violations.isEmpty() && testResult.getStatus() == ITestResult.SUCCESS) {
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError(getMessage(violations)));
+        }
+    }
+
+    /**
+     * Aggregate the network metrics of the thread's Har, attach the summary to the report &amp; get the network
+     * budgets that were exceeded
+     *
+     * @return empty list if network metrics are not enabled or no network budget was exceeded else the violations
+     */
+    static List<String> checkNetworkMetrics() {
+        HarMetrics metrics = getNetworkMetrics();
+        if (metrics == null) {
+            return Collections.emptyList();
+        }
+
+        metrics.attach();
+        return metrics.getViolations(TestProperties.getInstance().getNetworkBudgets());
+    }
+
+    static String getMessage(List<String> violations) {
+        return "Network budgets exceeded:  " + violations;
+    }
+
+    /**
+     * Aggregate the network metrics of the thread's Har
+     *
+     * @return null if the network metrics are not enabled else the network metrics
+     */
+    private static HarMetrics getNetworkMetrics() {
+        TestProperties props = TestProperties.getInstance();
+        if (!props.isBrowserMobProxy() || !props.isHarMetrics() || props.getHarForThread() == null) {
+            return null;
+        }
+
+        HarStreamWriter stream = props.getHarStreamWriterForThread();
+        if (stream != null) {
+            try {
+                // The streamed entries include the entries that were removed from the Har
+                return HarMetrics.from(stream);
+            } catch (IOException ex) {
+                LOG.warn("Could not read the streamed Har entries:  " + ex.getMessage());
+            }
+        }
+
+        return HarMetrics.from(props.getHarForThread());
+    }
+
+}
@@ -5,7 +5,7 @@ import org.testng.annotations.Listeners;
 /**
  * The TestNG base class TDD
  */
-@Listeners(AllureTestNGListener.class)
+@Listeners({AllureTestNGListener.class, NetworkBudgetListener.class})
 public class TestNGBase extends TestNGBaseWithoutListeners {
     // It is only necessary to add the listeners for TDD
 }
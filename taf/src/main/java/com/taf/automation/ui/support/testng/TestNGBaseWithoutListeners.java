@@ -1,9 +1,12 @@
 package com.taf.automation.ui.support.testng;
 
 import com.taf.automation.api.html.HtmlUtils;
+import com.taf.automation.db.DBInstance;
 import com.taf.automation.ui.support.DomainObject;
 import com.taf.automation.ui.support.TestContext;
 import com.taf.automation.ui.support.TestProperties;
+import com.taf.automation.ui.support.WebDriverPool;
+import com.taf.automation.ui.support.WebDriverProvisioner;
 import com.taf.automation.ui.support.util.ExpectedConditionsUtil;
 import com.taf.automation.ui.support.util.Utils;
 import datainstiller.data.DataPersistence;
@@ -15,9 +18,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.ITestContext;
 import org.testng.ITestResult;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.AfterTest;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.BeforeTest;
+import org.testng.xml.XmlSuite;
 import ui.auto.core.pagecomponent.PageObject;
 
 import java.io.File;
@@ -25,6 +32,7 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Date;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -166,6 +174,29 @@ public class TestNGBaseWithoutListeners {
         if (threadCount != null) {
             testNgContext.getSuite().getXmlSuite().setThreadCount(threadCount);
         }
+
+        prewarmDrivers(testNgContext.getSuite().getXmlSuite());
+    }
+
+    /**
+     * Start creating the drivers in the background such that they are ready when the tests need them
+     *
+     * @param suite - Suite to get the number of threads from if the number of drivers is not specified
+     */
+    private void prewarmDrivers(XmlSuite suite) {
+        TestProperties props = TestProperties.getInstance();
+        if (!props.isWebDriverPrewarm()) {
+            return;
+        }
+
+        int count = props.getWebDriverPrewarmCount();
+        if (count < 1) {
+            String parallel = String.valueOf(suite.getParallel());
+            boolean sequential = StringUtils.equalsAnyIgnoreCase(parallel, "none", "false", "null");
+            count = (sequential) ? 1 : suite.getThreadCount();
+        }
+
+        WebDriverProvisioner.getInstance().start(props, count);
     }
 
     @BeforeTest
@@ -183,7 +214,7 @@ public class TestNGBaseWithoutListeners {
         if (context() != null && context().getDriver() != null) {
             Utils.restoreBrowser(); // If browser was changed, ensure it is closed
             logInfo("-CLOSING CONTEXT: " + context().getDriver().toString());
-            context().getDriver().quit();
+            context().quit();
         }
 
         context.remove();
@@ -191,12 +222,71 @@ public class TestNGBaseWithoutListeners {
         stopBrowserMobProxyForThread();
     }
 
+    /**
+     * Start a new Har for each test method such that the network metrics are for the test method
+     */
+    @BeforeMethod(alwaysRun = true)
+    public void startNetworkMetrics() {
+        if (TestProperties.getInstance().isHarMetrics()) {
+            TestProperties.getInstance().newHarForThread(getBrowserMobProxyLogFilename());
+        }
+    }
+
+    /**
+     * Aggregate the network metrics of the test method's Har, attach the summary to the report &amp; fail if any
+     * network budget was exceeded.  This is only necessary if the NetworkBudgetListener is not used (such as BDD.)<BR>
+     * <B>Note: </B> As the test method is already completed, the failure is reported as a configuration failure.
+     *
+     * @param result - Result of the test method
+     */
+    @AfterMethod(alwaysRun = true)
+    public void checkNetworkMetrics(ITestResult result) {
+        if (result.getAttribute(NetworkBudgetListener.CHECKED) != null) {
+            return;
+        }
+
+        List<String> violations = NetworkBudgetListener.checkNetworkMetrics();
+        if (!violations.isEmpty() && result.getStatus() == ITestResult.SUCCESS) {
+            throw new AssertionError(NetworkBudgetListener.getMessage(violations));
+        }
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void shutdownWebDrivers() {
+        if (TestProperties.getInstance().isWebDriverPool()) {
+            WebDriverPool pool = WebDriverPool.getInstance();
+            LOG.info("WebDriver Pool - Created: " + pool.getCreated() + ", Reused: " + pool.getReused() + ", Evicted: " + pool.getEvicted());
+            pool.shutdown();
+        }
+
+        if (TestProperties.getInstance().isWebDriverPrewarm()) {
+            WebDriverProvisioner provisioner = WebDriverProvisioner.getInstance();
+            LOG.info("WebDriver Provisioning - Pre-warmed: " + provisioner.getProvisioned()
+                    + " (avg " + provisioner.getAverageProvisionTime() + " ms), Taken: " + provisioner.getTaken()
+                    + " (avg wait " + provisioner.getAverageWaitTime() + " ms), Created on test thread: "
+                    + provisioner.getCreated() + " (avg " + provisioner.getAverageCreateTime() + " ms)");
+            provisioner.shutdown();
+        }
+
+        if (TestProperties.getInstance().isReuseBrowserMobProxy()) {
+            TestProperties.getInstance().stopAllBrowserMobProxies();
+        }
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void closeDBConnections() {
+        DBInstance.closeAll();
+    }
+
     private void stopBrowserMobProxyForThread() {
-        String browserMobProxyLog = "proxy-log-" + Thread.currentThread().getId() + "-" + System.currentTimeMillis() + ".har";
-        TestProperties.getInstance().performWriteBrowserMobProxyLogToFile(browserMobProxyLog);
+        TestProperties.getInstance().performWriteBrowserMobProxyLogToFile(getBrowserMobProxyLogFilename());
         TestProperties.getInstance().stopBrowserMobProxyForThread();
     }
 
+    private static String getBrowserMobProxyLogFilename() {
+        return "proxy-log-" + Thread.currentThread().getId() + "-" + System.currentTimeMillis() + ".har";
+    }
+
     protected void setAttribute(String key, Object value) {
         testNgContext.get().getSuite().setAttribute(key, value);
     }
@@ -16,18 +16,50 @@ import java.nio.charset.Charset;
 import java.security.spec.KeySpec;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Encrypts &amp; decrypts using a key derived from the salt.<BR>
+ * <B>Note: </B>Key derivation is expensive as such the derived keys are cached for the process by the salt &amp;
+ * password source.  The salt is also cached by the configured salt source (automation key or salt file) such that
+ * the salt file is only read once.  The ciphers are re-used per thread as they are not thread safe.<BR>
+ */
 public class CryptoUtils {
     private static final String CRYPTO_CIPHER = "AES";
     private static final String ALGORITHM = "PBKDF2WithHmacSHA1";
     private static final int ITERATION_COUNT = 10000;
     private static final int KEY_LENGTH = 128;
-    private final SecretKey secret = getKey();
+    private static final String PASSWORD = "SALT_KEY";
+    private static final String SALT_FILE = "/etc/box/automation";
+    private static final Map<String, String> SALTS = new ConcurrentHashMap<>();
+    private static final Map<String, DerivedKey> KEYS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Cipher> CIPHERS = new ThreadLocal<>();
+    private final DerivedKey derivedKey = getDerivedKey();
+    private final SecretKey secret = (derivedKey == null) ? null : derivedKey.secret;
 
-    private SecretKey getKey() {
+    /**
+     * Derived key &amp; the memoized decryptions using the key
+     */
+    private static class DerivedKey {
+        private final SecretKey secret;
+        private final Map<String, String> decrypted = new ConcurrentHashMap<>();
+
+        private DerivedKey(SecretKey secret) {
+            this.secret = secret;
+        }
+    }
+
+    private DerivedKey getDerivedKey() {
+        String salt = getSalt(PASSWORD);
+        return KEYS.computeIfAbsent(PASSWORD + ":" + salt, cacheKey -> {
+            SecretKey key = getKey(PASSWORD, salt);
+            return (key == null) ? null : new DerivedKey(key);
+        });
+    }
+
+    private SecretKey getKey(String password, String salt) {
         try {
-            String password = "SALT_KEY";
-            String salt = getSalt(password);
             SecretKeyFactory factory = SecretKeyFactory.getInstance(ALGORITHM);
             KeySpec spec = new PBEKeySpec(password.toCharArray(), salt.getBytes(), ITERATION_COUNT, KEY_LENGTH);
             SecretKey tmp = factory.generateSecret(spec);
@@ -41,6 +73,11 @@ public class CryptoUtils {
 
     private String getSalt(String key) {
         String automationKey = TestProperties.getInstance().getAutomationKey();
+        String source = StringUtils.isNotBlank(automationKey) ? "key:" + automationKey : "file:" + SALT_FILE;
+        return SALTS.computeIfAbsent(key + ":" + source, cacheKey -> readSalt(key, automationKey));
+    }
+
+    private String readSalt(String key, String automationKey) {
         if (StringUtils.isNotBlank(automationKey)) {
             try {
                 return new String(new Hex().decode(automationKey.getBytes()));
@@ -49,7 +86,7 @@ public class CryptoUtils {
             }
         }
 
-        File aut = new File("/etc/box/automation");
+        File aut = new File(SALT_FILE);
         if (aut.exists()) {
             try {
                 List<String> lines = FileUtils.readLines(aut, Charset.defaultCharset());
@@ -66,10 +103,20 @@ public class CryptoUtils {
         return "salt";
     }
 
+    private static Cipher getCipher() throws Exception {
+        Cipher cipher = CIPHERS.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(CRYPTO_CIPHER);
+            CIPHERS.set(cipher);
+        }
+
+        return cipher;
+    }
+
     @SuppressWarnings("unused")
     public String encrypt(String text) {
         try {
-            Cipher cipher = Cipher.getInstance(CRYPTO_CIPHER);
+            Cipher cipher = getCipher();
             cipher.init(Cipher.ENCRYPT_MODE, secret);
             return new String(Base64.getEncoder().encode(cipher.doFinal(text.getBytes())));
         } catch (Exception e) {
@@ -80,11 +127,24 @@ public class CryptoUtils {
     }
 
     public String decrypt(String text) {
+        boolean memoize = derivedKey != null && text != null && TestProperties.getInstance().isCryptoDecryptCache();
+        if (memoize) {
+            String value = derivedKey.decrypted.get(text);
+            if (value != null) {
+                return value;
+            }
+        }
+
         try {
             byte[] txt = Base64.getDecoder().decode(text);
-            Cipher cipher = Cipher.getInstance(CRYPTO_CIPHER);
+            Cipher cipher = getCipher();
             cipher.init(Cipher.DECRYPT_MODE, secret);
-            return new String(cipher.doFinal(txt));
+            String value = new String(cipher.doFinal(txt));
+            if (memoize) {
+                derivedKey.decrypted.put(text, value);
+            }
+
+            return value;
         } catch (Exception e) {
             e.printStackTrace();
         }
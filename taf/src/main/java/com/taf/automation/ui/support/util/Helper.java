@@ -655,8 +655,8 @@ public class Helper {
                 EqualsBuilder resultsItems = new EqualsBuilder();
 
                 // Verify each line is equal for the specific item
-                String[] actualLines = new DomainObject(null).getXstream().toXML(actual.get(item)).split("\n");
-                String[] expectedLines = new DomainObject(null).getXstream().toXML(expected.get(item)).split("\n");
+                String[] actualLines = DomainObject.getSharedXstream().toXML(actual.get(item)).split("\n");
+                String[] expectedLines = DomainObject.getSharedXstream().toXML(expected.get(item)).split("\n");
 
                 // Verify that the number of lines is equal for the specified item
                 resultsItems.append(actualLines.length, expectedLines.length);
@@ -745,13 +745,13 @@ public class Helper {
             boolean found = false;
 
             // First check if item already exists in the cache
-            String key = new DomainObject(null).getXstream().toXML(item);
+            String key = DomainObject.getSharedXstream().toXML(item);
             Integer value = cache.get(key);
             if (value == null) {
                 // Not in cache, continue to build cache as we check the actual items
                 for (int i = createCacheIndex; i < actual.size(); i++) {
                     // Put new actual item into the cache
-                    String cacheKey = new DomainObject(null).getXstream().toXML(actual.get(i));
+                    String cacheKey = DomainObject.getSharedXstream().toXML(actual.get(i));
                     cache.put(cacheKey, i);
 
                     // Increment index for actual items added to cache such that no additional processing
@@ -814,7 +814,7 @@ public class Helper {
         EqualsBuilder results = new EqualsBuilder();
         Map<String, Integer> cache = getCache(actual);
         for (T item : excluded) {
-            String key = new DomainObject(null).getXstream().toXML(item);
+            String key = DomainObject.getSharedXstream().toXML(item);
             boolean notFound = cache.get(key) == null;
             if (!notFound) {
                 log("Found item:  " + key);
@@ -905,7 +905,7 @@ public class Helper {
         if (items != null) {
             // Go in reverse order such that cache contains the 1st index for duplicates when complete
             for (int i = items.size() - 1; i >= 0; i--) {
-                String key = new DomainObject(null).getXstream().toXML(items.get(i));
+                String key = DomainObject.getSharedXstream().toXML(items.get(i));
                 cache.put(key, i);
             }
         }
@@ -929,7 +929,7 @@ public class Helper {
             if (item == null) {
                 LOG.info("null object");
             } else {
-                String key = new DomainObject(null).getXstream().toXML(item);
+                String key = DomainObject.getSharedXstream().toXML(item);
                 LOG.info(key);
             }
         }
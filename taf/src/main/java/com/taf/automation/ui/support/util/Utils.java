@@ -666,7 +666,7 @@ public class Utils {
      */
     @SuppressWarnings("unchecked")
     public static <T> T deepCopy(T obj) {
-        XStream xstream = new XStream();
+        XStream xstream = XStreamRegistry.getInstance().get(Object.class, XStreamRegistry.NONE, XStream::new);
         String xml = xstream.toXML(obj);
         return (T) xstream.fromXML(xml);
     }
@@ -0,0 +1,89 @@
+package com.taf.automation.ui.support.util;
+
+import com.thoughtworks.xstream.XStream;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Registry of configured XStream instances that are shared (for the process) by all threads.
+ * The XStream instances are keyed by the root class and the converter set used to configure them.<BR>
+ * <B>Notes: </B>
+ * <OL>
+ * <LI>XStream is thread safe for serialization &amp; deserialization only after it is configured.
+ * As such, all configuration (aliases, converters &amp; annotations) must be done by the factory and
+ * the returned XStream must never be modified.</LI>
+ * <LI>Deserialization with the DataAliasesConverterV2 uses the Jexl Context of the XStream that was cached.
+ * So, use the registry for serialization (or if the Jexl Context does not matter.)</LI>
+ * </OL>
+ */
+public class XStreamRegistry {
+    public static final String NONE = "none";
+    public static final String DEFAULT = "default";
+    public static final String ALIASES = "aliases";
+    private final Map<List<Object>, XStream> registry;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+
+    private XStreamRegistry() {
+        registry = new ConcurrentHashMap<>();
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+    }
+
+    private static class LazyHolder {
+        private static final XStreamRegistry INSTANCE = new XStreamRegistry();
+    }
+
+    public static XStreamRegistry getInstance() {
+        return XStreamRegistry.LazyHolder.INSTANCE;
+    }
+
+    /**
+     * Get the XStream for the root class &amp; converter set creating it if necessary
+     *
+     * @param rootClass    - Root Class that the XStream is configured for
+     * @param converterSet - Name of the converter set that the XStream is configured with
+     * @param factory      - Factory to create &amp; fully configure the XStream if not in the registry
+     * @return XStream that must not be modified
+     */
+    public XStream get(Class<?> rootClass, String converterSet, Supplier<XStream> factory) {
+        List<Object> key = Arrays.asList(rootClass, converterSet);
+        XStream xstream = registry.get(key);
+        if (xstream != null) {
+            hits.incrementAndGet();
+            return xstream;
+        }
+
+        misses.incrementAndGet();
+        return registry.computeIfAbsent(key, k -> factory.get());
+    }
+
+    /**
+     * @return number of times a configured XStream was re-used
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return number of times a configured XStream was not in the registry
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Remove all the XStream instances &amp; reset the counts
+     */
+    public void clear() {
+        registry.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+
+}
@@ -0,0 +1,137 @@
+//
+// Functions to get the state of multiple elements in a single round trip.  The script that uses the functions is
+// appended to this script.
+// getStates(requests) - requests is an array of requests with properties:  using, value, attribute (optional),
+//                       dropdown (optional) & count (optional)
+// Returns an array (in the same order) of results with properties:
+//     found, displayed, enabled, selected, text, attribute, option (if dropdown), count & elements (if count) and
+//     signature (which changes if any other property except elements changes)
+//
+function findElements(using, value) {
+	var found = new Array();
+	if (using == 'id') {
+		var element = document.getElementById(value);
+		if (element != null) {
+			found.push(element);
+		}
+	} else if (using == 'css') {
+		found = document.querySelectorAll(value);
+	} else if (using == 'xpath') {
+		var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+		for (var s = 0; s < snapshot.snapshotLength; s++) {
+			found.push(snapshot.snapshotItem(s));
+		}
+	} else if (using == 'name') {
+		found = document.getElementsByName(value);
+	} else if (using == 'class') {
+		found = document.getElementsByClassName(value);
+	} else if (using == 'tag') {
+		found = document.getElementsByTagName(value);
+	} else if (using == 'link' || using == 'partial') {
+		var links = document.getElementsByTagName('a');
+		for (var i = 0; i < links.length; i++) {
+			var text = getText(links[i]);
+			if ((using == 'link' && text == value) || (using == 'partial' && text.indexOf(value) >= 0)) {
+				found.push(links[i]);
+			}
+		}
+	}
+
+	return found;
+}
+
+//
+// Get the 1st selected option of the drop down
+//
+function getSelectedOption(element) {
+	var options = element.options || new Array();
+	for (var i = 0; i < options.length; i++) {
+		if (options[i].selected) {
+			var option = new Object();
+			option.text = options[i].text;
+			option.value = options[i].value;
+			option.index = i;
+			return option;
+		}
+	}
+
+	return null;
+}
+
+function getText(element) {
+	var value = (element.innerText == undefined) ? element.textContent : element.innerText;
+	return (value == null) ? '' : value.replace(/^\s+|\s+$/g, '');
+}
+
+//
+// Similar to WebDriver, the property is preferred over the attribute when it is a primitive
+//
+function getAttribute(element, name) {
+	var property = element[name];
+	if (typeof property == 'boolean') {
+		return property ? 'true' : null;
+	} else if (typeof property == 'string' || typeof property == 'number') {
+		return String(property);
+	}
+
+	return element.getAttribute(name);
+}
+
+function isDisplayed(element) {
+	if (element.getClientRects().length == 0) {
+		return false;
+	}
+
+	var style = window.getComputedStyle(element);
+	return style.visibility != 'hidden' && style.visibility != 'collapse' && style.opacity != '0';
+}
+
+//
+// Get the state of the elements for each request
+//
+function getStates(requests) {
+	var results = new Array();
+	for (var r = 0; r < requests.length; r++) {
+		var result = new Object();
+		result.found = false;
+
+		try {
+			var elements = findElements(requests[r].using, requests[r].value);
+			var element = (elements.length > 0) ? elements[0] : null;
+			if (requests[r].count) {
+				result.count = elements.length;
+				result.elements = Array.prototype.slice.call(elements);
+			}
+
+			if (element != null) {
+				result.found = true;
+				result.displayed = isDisplayed(element);
+				result.enabled = !element.disabled;
+				result.selected = !!(element.selected || element.checked);
+				result.text = result.displayed ? getText(element) : '';
+				if (requests[r].attribute) {
+					result.attribute = getAttribute(element, requests[r].attribute);
+				}
+
+				if (requests[r].dropdown) {
+					result.option = getSelectedOption(element);
+				}
+			}
+		} catch (err) {
+			result.found = false;
+		}
+
+		result.signature = getSignature(result);
+		results.push(result);
+	}
+
+	return results;
+}
+
+//
+// Get a string of the state (without the elements) that changes if any part of the state changes
+//
+function getSignature(result) {
+	return JSON.stringify([result.found, result.displayed, result.enabled, result.selected, result.text,
+		result.attribute, result.option, result.count]);
+}
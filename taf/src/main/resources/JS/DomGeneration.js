@@ -0,0 +1,23 @@
+//
+// Get a token that changes whenever the document is replaced or elements are added/removed.  Attribute & text
+// changes (timers, spinners, hover styles, etc.) do not make element handles stale as such they are not counted.
+// Returns document id:number of changes
+//
+var state = window.__tafDomGeneration;
+if (!state || state.doc !== document) {
+	state = {
+		doc : document,
+		id : new Date().getTime() + '-' + Math.random(),
+		count : 0
+	};
+	var observer = new MutationObserver(function(mutations) {
+		state.count += mutations.length;
+	});
+	observer.observe(document, {
+		childList : true,
+		subtree : true
+	});
+	window.__tafDomGeneration = state;
+}
+
+return state.id + ':' + state.count;
@@ -0,0 +1,16 @@
+//
+// Get the 1st selected option of the drop down
+// Returns null if no option is selected else object with properties:  text, value & index
+//
+var options = arguments[0].options;
+for (var i = 0; i < options.length; i++) {
+	if (options[i].selected) {
+		var option = new Object();
+		option.text = options[i].text;
+		option.value = options[i].value;
+		option.index = i;
+		return option;
+	}
+}
+
+return null;
@@ -0,0 +1,43 @@
+//
+// Get the row key & the cell values of all the rows using a single call
+// arguments[0] - Row elements
+// arguments[1] - Attribute that contains the row key
+// arguments[2] - Base value to make the rows unique (null to not add the attribute)
+// Note: Trims cell values.
+//
+var rows = arguments[0];
+var attribute = arguments[1];
+var baseValue = arguments[2];
+var data = new Array();
+
+for (var i = 0; i < rows.length; i++) {
+	var row = rows[i];
+	if (baseValue != null)
+		row.setAttribute(attribute, baseValue + i);
+
+	// Use the children if the element is not a table row
+	var cells = (row.cells == undefined) ? row.children : row.cells;
+	var cols = new Array();
+	for (var j = 0; j < cells.length; j++) {
+		var value;
+		try {
+			if (cells[j].textContent == undefined)
+				value = cells[j].innerText;
+			else
+				value = cells[j].textContent;
+
+			value = value.replace(/^\s+|\s+$/gm, '');
+		} catch (e) {
+			value = "";
+		}
+
+		cols.push(value);
+	}
+
+	var rowObj = new Object();
+	rowObj.key = row.getAttribute(attribute);
+	rowObj.cells = cols;
+	data.push(rowObj);
+}
+
+return data;
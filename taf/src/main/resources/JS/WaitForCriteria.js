@@ -0,0 +1,110 @@
+//
+// Wait (asynchronously) until the state of the criteria elements changes or the maximum time is reached.  This is
+// appended to BatchCriteria.js.
+// arguments[0] - Array of requests (see getStates)
+// arguments[1] - Array of the signatures of the states last seen by the caller (null if none)
+// arguments[2] - Maximum time to wait (in milliseconds)
+// arguments[3] - Time to wait after a DOM change or XHR completes before checking the state again (in milliseconds)
+// Returns an object with properties:  changed (true if the state changed) & signatures (of the current states)
+//
+var callback = arguments[arguments.length - 1];
+var requests = arguments[0];
+var baseline = arguments[1];
+var settle = arguments[3];
+var done = false;
+var scheduled = null;
+var resources = null;
+
+function getSignatures() {
+	var states = getStates(requests);
+	var signatures = new Array();
+	for (var i = 0; i < states.length; i++) {
+		signatures.push(states[i].signature);
+	}
+
+	return signatures;
+}
+
+function isChanged(signatures) {
+	if (baseline == null || baseline.length != signatures.length) {
+		return false;
+	}
+
+	for (var i = 0; i < signatures.length; i++) {
+		if (baseline[i] != signatures[i]) {
+			return true;
+		}
+	}
+
+	return false;
+}
+
+function finish(changed, signatures) {
+	if (!done) {
+		done = true;
+		observer.disconnect();
+		if (resources != null) {
+			resources.disconnect();
+		}
+
+		document.removeEventListener('change', onChange, true);
+		document.removeEventListener('input', onChange, true);
+		clearTimeout(timer);
+		clearTimeout(scheduled);
+		callback({changed : changed, signatures : signatures});
+	}
+}
+
+function check() {
+	scheduled = null;
+	var signatures = getSignatures();
+	if (isChanged(signatures)) {
+		finish(true, signatures);
+	} else if (baseline == null) {
+		baseline = signatures;
+	}
+}
+
+function onChange() {
+	if (!done && scheduled == null) {
+		scheduled = setTimeout(check, settle);
+	}
+}
+
+// The listeners are installed before the state is checked such that no change is missed
+var observer = new MutationObserver(onChange);
+observer.observe(document, {
+	attributes : true,
+	childList : true,
+	characterData : true,
+	subtree : true
+});
+
+// Property changes (such as checked by the user) do not cause mutations as such listen for the events as well
+document.addEventListener('change', onChange, true);
+document.addEventListener('input', onChange, true);
+
+// Completed XHR/fetch requests can change the state without a mutation (such as a property set by a script)
+if (typeof PerformanceObserver != 'undefined') {
+	try {
+		resources = new PerformanceObserver(function(list) {
+			var entries = list.getEntries();
+			for (var i = 0; i < entries.length; i++) {
+				if (entries[i].initiatorType == 'xmlhttprequest' || entries[i].initiatorType == 'fetch') {
+					onChange();
+					break;
+				}
+			}
+		});
+		resources.observe({entryTypes : ['resource']});
+	} catch (err) {
+		resources = null;
+	}
+}
+
+var timer = setTimeout(function() {
+	finish(false, getSignatures());
+}, arguments[2]);
+
+// A change since the caller checked the state returns immediately
+check();